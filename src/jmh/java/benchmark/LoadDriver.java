@@ -0,0 +1,204 @@
+package benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import duke.Duke;
+import tasklist.TaskList;
+
+/**
+ * Replays a random mix of commands through Duke.respond() on a task file,
+ * such as one written by TaskFileGenerator, and reports throughput and
+ * latency percentiles per command. Changes are saved to the file as usual.
+ * Options, all optional, are given as key=value arguments:
+ * <ul>
+ *     <li>file: storage file, given as to Duke (build/loadtest/tasks.txt)</li>
+ *     <li>commands: number of commands measured (1000)</li>
+ *     <li>warmUp: number of commands run first and not measured (200)</li>
+ *     <li>threads: number of threads sending commands at once (1)</li>
+ *     <li>mix: weights of each kind of command
+ *     (list:10,page:10,find:20,query:10,agenda:10,next:10,stats:5,todo:10,mark:5,unmark:5,delete:5)</li>
+ *     <li>seed: seed of the random choices (42)</li>
+ * </ul>
+ */
+public class LoadDriver {
+    private static final String DEFAULT_MIX =
+            "list:10,page:10,find:20,query:10,agenda:10,next:10,stats:5,todo:10,mark:5,unmark:5,delete:5";
+    private static final String[] WORDS = {"parrots", "cage", "seed", "vet", "report", "finches"};
+    private static final LocalDate FIRST_DATE = LocalDate.of(2022, 1, 1);
+    private static final double[] PERCENTILES = {50, 90, 99};
+
+    private final Duke duke;
+    private final WeightedChoice mix;
+
+    private LoadDriver(Duke duke, WeightedChoice mix) {
+        this.duke = duke;
+        this.mix = mix;
+    }
+
+    /**
+     * Runs the load the options given describe and prints a report.
+     *
+     * @param args Options as key=value words.
+     * @throws Exception When a thread sending commands fails.
+     */
+    public static void main(String[] args) throws Exception {
+        Options options = new Options(args);
+        long loadStartNanos = System.nanoTime();
+        Duke duke = new Duke(options.getString("file", TaskFileGenerator.DEFAULT_FILE));
+        long loadNanos = System.nanoTime() - loadStartNanos;
+        System.out.printf("Loaded %d tasks in %.1f ms%n", duke.readTasks(TaskList::getSize), loadNanos / 1e6);
+
+        LoadDriver driver = new LoadDriver(duke, new WeightedChoice(options.getWeights("mix", DEFAULT_MIX)));
+        long seed = options.getLong("seed", 42);
+        driver.run(options.getInt("warmUp", 200), 1, seed - 1);
+        driver.run(options.getInt("commands", 1000), options.getInt("threads", 1), seed).print();
+    }
+
+    /**
+     * Sends noOfCommands commands split over noOfThreads threads, and returns their latencies.
+     */
+    private Results run(int noOfCommands, int noOfThreads, long seed) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(noOfThreads);
+        List<Future<Results>> futures = new ArrayList<>();
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < noOfThreads; i++) {
+            int noOfCommandsOfThread = noOfCommands / noOfThreads + (i < noOfCommands % noOfThreads ? 1 : 0);
+            Random random = new Random(seed + i);
+            futures.add(executor.submit(() -> sendCommands(noOfCommandsOfThread, random)));
+        }
+        Results results = new Results();
+        for (Future<Results> future : futures) {
+            results.addAll(future.get());
+        }
+        results.elapsedNanos = System.nanoTime() - startNanos;
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+        return results;
+    }
+
+    private Results sendCommands(int noOfCommands, Random random) {
+        Results results = new Results();
+        for (int i = 0; i < noOfCommands; i++) {
+            String kind = mix.pick(random);
+            String input = createInput(kind, random);
+            long startNanos = System.nanoTime();
+            boolean isError = duke.respond(input).isError();
+            results.add(kind, System.nanoTime() - startNanos, isError);
+        }
+        return results;
+    }
+
+    private String createInput(String kind, Random random) {
+        int noOfTasks = Math.max(1, duke.readTasks(TaskList::getSize));
+        int index = 1 + random.nextInt(noOfTasks);
+        String word = WORDS[random.nextInt(WORDS.length)];
+        LocalDate date = FIRST_DATE.plusDays(random.nextInt(730));
+        switch (kind) {
+        case "list":
+            return "list " + index + "-" + Math.min(noOfTasks, index + 100);
+        case "page":
+            return "list page " + (1 + random.nextInt(Math.max(1, noOfTasks / 100)));
+        case "find":
+            return "find " + word;
+        case "query":
+            return "find type:deadline|event done:no text:" + word;
+        case "agenda":
+            return "agenda " + date + " " + date.plusDays(7);
+        case "next":
+            return "next 10";
+        case "stats":
+            return "stats";
+        case "todo":
+            return "todo " + word + " " + random.nextInt(1000);
+        case "mark":
+            return "mark " + index;
+        case "unmark":
+            return "unmark " + index;
+        case "delete":
+            return "delete " + index;
+        default:
+            throw new IllegalArgumentException("Unknown kind of command: " + kind);
+        }
+    }
+
+    /**
+     * Latencies of commands sent, by kind of command.
+     */
+    private static class Results {
+        private final Map<String, LatencyList> latencies = new TreeMap<>();
+        private long elapsedNanos;
+
+        void add(String kind, long nanos, boolean isError) {
+            latencies.computeIfAbsent(kind, k -> new LatencyList()).add(nanos, isError);
+        }
+
+        void addAll(Results other) {
+            other.latencies.forEach((kind, list) ->
+                    latencies.computeIfAbsent(kind, k -> new LatencyList()).addAll(list));
+        }
+
+        void print() {
+            LatencyList all = new LatencyList();
+            latencies.values().forEach(all::addAll);
+            System.out.printf("%d commands in %.1f ms: %.0f commands/s%n",
+                    all.size, elapsedNanos / 1e6, all.size * 1e9 / elapsedNanos);
+            System.out.printf("%-8s %7s %7s %10s %10s %10s %10s%n",
+                    "command", "count", "errors", "p50 ms", "p90 ms", "p99 ms", "max ms");
+            latencies.forEach((kind, list) -> list.print(kind));
+            all.print("all");
+        }
+    }
+
+    /**
+     * Growable array of latencies in nanoseconds.
+     */
+    private static class LatencyList {
+        private long[] nanos = new long[64];
+        private int size = 0;
+        private int noOfErrors = 0;
+
+        void add(long latencyNanos, boolean isError) {
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+            nanos[size++] = latencyNanos;
+            noOfErrors += isError ? 1 : 0;
+        }
+
+        void addAll(LatencyList other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.nanos[i], false);
+            }
+            noOfErrors += other.noOfErrors;
+        }
+
+        void print(String kind) {
+            long[] sorted = Arrays.copyOf(nanos, size);
+            Arrays.sort(sorted);
+            StringBuilder line = new StringBuilder(String.format("%-8s %7d %7d", kind, size, noOfErrors));
+            for (double percentile : PERCENTILES) {
+                line.append(String.format(" %10.3f", getPercentile(sorted, percentile) / 1e6));
+            }
+            line.append(String.format(" %10.3f", sorted[size - 1] / 1e6));
+            System.out.println(line);
+        }
+
+        /**
+         * Returns the smallest latency at least percentile % of latencies are no larger than.
+         */
+        private static long getPercentile(long[] sorted, double percentile) {
+            int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+            return sorted[Math.max(0, rank - 1)];
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package benchmark;
+
+import java.util.List;
+
+import task.Task;
+import tasklist.TaskList;
+
+/**
+ * Repeatable mix of tasks for benchmarks, made by a TaskFileGenerator
+ * with its default options. The same noOfTasks always gives the same tasks.
+ */
+public class SampleTasks {
+
+    private SampleTasks() {
+    }
+
+    /**
+     * Returns noOfTasks new tasks.
+     *
+     * @param noOfTasks Number of tasks wanted.
+     * @return Tasks in a fixed order.
+     */
+    public static List<Task> createTasks(int noOfTasks) {
+        return new TaskFileGenerator(new Options(new String[0])).createTasks(noOfTasks);
+    }
+
+    /**
+     * Returns a TaskList holding noOfTasks new tasks.
+     *
+     * @param noOfTasks Number of tasks wanted.
+     * @return TaskList of tasks in a fixed order.
+     */
+    public static TaskList createTaskList(int noOfTasks) {
+        TaskList taskList = new TaskList();
+        createTasks(noOfTasks).forEach(taskList::addTask);
+        return taskList;
+    }
+
+    /**
+     * Returns the storage file lines of noOfTasks new tasks.
+     *
+     * @param noOfTasks Number of lines wanted.
+     * @return Lines as they are written to disk storage.
+     */
+    public static List<String> createStorageLines(int noOfTasks) {
+        return createTaskList(noOfTasks).getStorageLines();
+    }
+}
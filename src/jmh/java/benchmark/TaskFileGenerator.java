@@ -0,0 +1,151 @@
+package benchmark;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import storage.Storage;
+import task.Deadline;
+import task.Event;
+import task.RecurringTask;
+import task.Task;
+
+/**
+ * Writes task files of any size that look like real ones, to load Duke with.
+ * Options, all optional, are given as key=value arguments:
+ * <ul>
+ *     <li>file: storage file, given as to Duke (build/loadtest/tasks.txt)</li>
+ *     <li>lines: number of lines (10000)</li>
+ *     <li>mix: weights of todo, deadline, event and recur (todo:40,deadline:30,event:20,recur:10)</li>
+ *     <li>dates: uniform over days days from from, or clustered around the middle of them (uniform)</li>
+ *     <li>from, days: first date and number of days dates fall in (2022-01-01, 730)</li>
+ *     <li>minWords, maxWords: length of descriptions in words (1, 8)</li>
+ *     <li>done, tagged, multiDay: share of tasks done, tagged and of events lasting
+ *     several days (0.3, 0.2, 0.1)</li>
+ *     <li>corrupt: share of lines that cannot be parsed (0)</li>
+ *     <li>seed: seed of the random choices, so files can be made again (42)</li>
+ * </ul>
+ */
+public class TaskFileGenerator {
+    static final String DEFAULT_FILE = "build/loadtest/tasks.txt";
+    private static final String[] WORDS = {"feed", "parrots", "clean", "cage", "buy", "seed", "perch", "vet",
+        "nest", "eggs", "report", "aviary", "water", "finches", "check", "weigh", "order", "grit", "lamp", "show"};
+    private static final String[] CORRUPT_LINES = {"[X][ ] unknown type", "[D][ ] no date", "[T]",
+        "[E][1] bad date (at: 2022-13-45)", "feed parrots", ""};
+    private static final int MAX_MULTI_DAY_LENGTH = 7;
+
+    private final WeightedChoice mix;
+    private final boolean isClustered;
+    private final LocalDate from;
+    private final int days;
+    private final int minWords;
+    private final int maxWords;
+    private final double doneShare;
+    private final double taggedShare;
+    private final double multiDayShare;
+    private final double corruptShare;
+    private final Random random;
+
+    TaskFileGenerator(Options options) {
+        mix = new WeightedChoice(options.getWeights("mix", "todo:40,deadline:30,event:20,recur:10"));
+        isClustered = options.getString("dates", "uniform").equals("clustered");
+        from = LocalDate.parse(options.getString("from", "2022-01-01"));
+        days = options.getInt("days", 730);
+        minWords = options.getInt("minWords", 1);
+        maxWords = options.getInt("maxWords", 8);
+        doneShare = options.getDouble("done", 0.3);
+        taggedShare = options.getDouble("tagged", 0.2);
+        multiDayShare = options.getDouble("multiDay", 0.1);
+        corruptShare = options.getDouble("corrupt", 0);
+        random = new Random(options.getLong("seed", 42));
+    }
+
+    /**
+     * Writes a task file as the options given say.
+     *
+     * @param args Options as key=value words.
+     * @throws IOException When the file cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        Options options = new Options(args);
+        Path path = new Storage(options.getString("file", DEFAULT_FILE)).getFilePath();
+        int noOfLines = options.getInt("lines", 10000);
+        new TaskFileGenerator(options).writeLines(path, noOfLines);
+        System.out.println("Wrote " + noOfLines + " lines to " + path);
+    }
+
+    /**
+     * Returns noOfTasks new tasks, with no corrupt ones.
+     */
+    List<Task> createTasks(int noOfTasks) {
+        List<Task> tasks = new ArrayList<>(noOfTasks);
+        for (int i = 0; i < noOfTasks; i++) {
+            tasks.add(createTask());
+        }
+        return tasks;
+    }
+
+    private void writeLines(Path path, int noOfLines) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < noOfLines; i++) {
+                boolean isCorrupt = random.nextDouble() < corruptShare;
+                writer.write(isCorrupt ? CORRUPT_LINES[random.nextInt(CORRUPT_LINES.length)] : createTask().toString());
+                writer.write('\n');
+            }
+        }
+    }
+
+    private Task createTask() {
+        String description = createDescription();
+        LocalDate date = createDate();
+        Task task;
+        switch (mix.pick(random)) {
+        case "deadline":
+            task = new Deadline(description, date);
+            break;
+        case "event":
+            task = random.nextDouble() < multiDayShare
+                    ? new Event(description, date, date.plusDays(1 + random.nextInt(MAX_MULTI_DAY_LENGTH)))
+                    : new Event(description, date);
+            break;
+        case "recur":
+            RecurringTask.Frequency[] frequencies = RecurringTask.Frequency.values();
+            LocalDate until = random.nextBoolean() ? date.plusDays(random.nextInt(days) + 1) : null;
+            task = new RecurringTask(description, frequencies[random.nextInt(frequencies.length)], date, until);
+            break;
+        default:
+            task = new Task(description);
+        }
+        if (random.nextDouble() < taggedShare) {
+            task.setTags(List.of(WORDS[random.nextInt(WORDS.length)]));
+        }
+        if (random.nextDouble() < doneShare) {
+            task.markAsDone(null);
+        }
+        return task;
+    }
+
+    private String createDescription() {
+        int noOfWords = minWords + random.nextInt(maxWords - minWords + 1);
+        StringBuilder description = new StringBuilder(WORDS[random.nextInt(WORDS.length)]);
+        for (int i = 1; i < noOfWords; i++) {
+            description.append(' ').append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return description.toString();
+    }
+
+    private LocalDate createDate() {
+        if (!isClustered) {
+            return from.plusDays(random.nextInt(days));
+        }
+        // normal around the middle, so most dates fall within a month or two of it
+        long offset = Math.round(days / 2.0 + random.nextGaussian() * days / 12.0);
+        return from.plusDays(Math.max(0, Math.min(days - 1, offset)));
+    }
+}
@@ -0,0 +1,37 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Picks names at random in proportion to their weights.
+ */
+class WeightedChoice {
+    private final List<String> names = new ArrayList<>();
+    private final List<Integer> cumulativeWeights = new ArrayList<>();
+    private int totalWeight = 0;
+
+    WeightedChoice(Map<String, Integer> weights) {
+        weights.forEach((name, weight) -> {
+            if (weight > 0) {
+                totalWeight += weight;
+                names.add(name);
+                cumulativeWeights.add(totalWeight);
+            }
+        });
+        if (totalWeight == 0) {
+            throw new IllegalArgumentException("No positive weights in " + weights);
+        }
+    }
+
+    String pick(Random random) {
+        int target = random.nextInt(totalWeight);
+        int i = 0;
+        while (cumulativeWeights.get(i) <= target) {
+            i++;
+        }
+        return names.get(i);
+    }
+}
@@ -0,0 +1,50 @@
+package storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import benchmark.SampleTasks;
+import exceptions.DukeException;
+import tasklist.TaskList;
+
+/**
+ * Time taken by StorageReader.syncArrayList() to load a whole storage file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StorageReaderBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    private int noOfLines;
+    private Path path;
+    private StorageReader reader;
+
+    @Setup
+    public void setUp() throws IOException {
+        path = Files.createTempFile("tasks", ".txt");
+        Files.write(path, SampleTasks.createStorageLines(noOfLines));
+        reader = new StorageReader(path);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @Benchmark
+    public TaskList syncArrayList() throws DukeException {
+        return reader.syncArrayList();
+    }
+}
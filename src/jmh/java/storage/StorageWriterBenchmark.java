@@ -0,0 +1,65 @@
+package storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import benchmark.SampleTasks;
+
+/**
+ * Time taken by StorageWriter.deleteLine() and changeLine() to change
+ * the middle line of a storage file.
+ * The file is written afresh before every call, outside the measured time.
+ * Both rewrite the file a line at a time, so larger files are left out
+ * to keep runs short.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StorageWriterBenchmark {
+    @Param({"100", "1000"})
+    private int noOfLines;
+    private List<String> lines;
+    private Path path;
+    private StorageWriter writer;
+
+    @Setup(Level.Trial)
+    public void createFile() throws IOException {
+        lines = SampleTasks.createStorageLines(noOfLines);
+        path = Files.createTempFile("tasks", ".txt");
+        writer = new StorageWriter(path);
+    }
+
+    @Setup(Level.Invocation)
+    public void resetFile() throws IOException {
+        Files.write(path, lines);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @Benchmark
+    public boolean deleteLine() {
+        return writer.deleteLine(noOfLines / 2);
+    }
+
+    @Benchmark
+    public boolean changeLine() {
+        return writer.changeLine(noOfLines / 2, lines.get(0));
+    }
+}
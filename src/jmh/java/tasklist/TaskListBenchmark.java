@@ -0,0 +1,42 @@
+package tasklist;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import benchmark.SampleTasks;
+
+/**
+ * Time taken by TaskList.findTasks() and getContents() on lists of
+ * several sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskListBenchmark {
+    @Param({"1000", "100000"})
+    private int noOfTasks;
+    private TaskList taskList;
+
+    @Setup
+    public void setUp() {
+        taskList = SampleTasks.createTaskList(noOfTasks);
+    }
+
+    @Benchmark
+    public TaskList findTasks() {
+        return taskList.findTasks("parrots");
+    }
+
+    @Benchmark
+    public StringBuilder getContents() {
+        return taskList.getContents();
+    }
+}
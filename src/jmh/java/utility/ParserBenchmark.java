@@ -0,0 +1,58 @@
+package utility;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import command.Command;
+import exceptions.DukeException;
+
+/**
+ * Time taken by Parser.parse() for each kind of command.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParserBenchmark {
+    private static final Map<String, String> INPUTS = Map.ofEntries(
+            Map.entry("todo", "todo feed parrots #aviary"),
+            Map.entry("deadline", "deadline vet report 2022-10-10"),
+            Map.entry("event", "event aviary opening 2022-10-10 2022-10-12"),
+            Map.entry("recur", "recur clean cage weekly 2022-01-03 2022-12-26"),
+            Map.entry("list", "list 200-300"),
+            Map.entry("mark", "mark 12"),
+            Map.entry("unmark", "unmark 12"),
+            Map.entry("delete", "delete 12"),
+            Map.entry("find", "find parrots"),
+            Map.entry("findQuery", "find type:deadline|event done:no before:2022-12-01 text:report"),
+            Map.entry("filter", "filter #aviary|#vet !#urgent done:no"),
+            Map.entry("agenda", "agenda 2022-10-01 2022-10-31"),
+            Map.entry("busy", "busy 2022-10-01 2022-10-31"),
+            Map.entry("next", "next 5"),
+            Map.entry("sort", "sort by date"),
+            Map.entry("stats", "stats"),
+            Map.entry("help", "help"));
+
+    @Param({"todo", "deadline", "event", "recur", "list", "mark", "unmark", "delete", "find", "findQuery",
+        "filter", "agenda", "busy", "next", "sort", "stats", "help"})
+    private String commandType;
+    private String input;
+
+    @Setup
+    public void setUp() {
+        input = INPUTS.get(commandType);
+    }
+
+    @Benchmark
+    public Command parse() throws DukeException {
+        return Parser.parse(input);
+    }
+}
@@ -0,0 +1,52 @@
+package utility;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import task.Deadline;
+import task.Event;
+import task.RecurringTask;
+import task.Task;
+
+/**
+ * Time taken by StorageParser.fileLineToTask() for each kind of stored line.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StorageParserBenchmark {
+    @Param({"todo", "deadline", "event", "multiDayEvent", "recur", "tagged"})
+    private String lineType;
+    private String line;
+
+    @Setup
+    public void setUp() {
+        LocalDate date = LocalDate.of(2022, 10, 10);
+        Task tagged = new Task("feed parrots");
+        tagged.setTags(List.of("aviary", "daily"));
+        Map<String, Task> tasks = Map.of(
+                "todo", new Task("feed parrots"),
+                "deadline", new Deadline("vet report", date),
+                "event", new Event("aviary opening", date),
+                "multiDayEvent", new Event("bird show", date, date.plusDays(2)),
+                "recur", new RecurringTask("clean cage", RecurringTask.Frequency.WEEKLY, date, date.plusYears(1)),
+                "tagged", tagged);
+        line = tasks.get(lineType).toString();
+    }
+
+    @Benchmark
+    public Task fileLineToTask() {
+        return StorageParser.fileLineToTask(line);
+    }
+}
@@ -26,14 +26,13 @@ public class AddDeadlineCommand extends Command {
      */
     @Override
     public void execute(TaskList taskList, UI ui, Storage storage) throws DukeException {
-        String storableLine = deadline + "\n";
-        if (isLineAppended(storableLine, storage)) {
+        if (isLineAppended(deadline.toStorageBytes(), storage)) {
             taskList.addTask(deadline);
             ui.showMessage("added deadline");
         }
     }
 
-    private boolean isLineAppended(String storableLine, Storage storage) {
+    private boolean isLineAppended(byte[] storableLine, Storage storage) {
         return storage.isLineAppended(storableLine);
     }
 }
@@ -1,8 +1,11 @@
 package command;
 
+import java.util.List;
+
 import exceptions.DukeException;
 import storage.Storage;
 import task.Event;
+import task.Task;
 import tasklist.TaskList;
 import ui.UI;
 
@@ -26,14 +29,23 @@ public class AddEventCommand extends Command {
      */
     @Override
     public void execute(TaskList taskList, UI ui, Storage storage) throws DukeException {
-        String storableLine = event + "\n";
-        if (isLineAppended(storableLine, storage)) {
+        if (isLineAppended(event.toStorageBytes(), storage)) {
+            List<Task> clashes = taskList.findEventsBetween(event.getDate(), event.getEndDate());
             taskList.addTask(event);
-            ui.showMessage("Added event");
+            ui.showMessage(clashes.isEmpty() ? "Added event" : "Added event, which clashes with:\n"
+                    + describe(clashes));
+        }
+    }
+
+    private static String describe(List<Task> clashes) {
+        StringBuilder description = new StringBuilder();
+        for (Task clash : clashes) {
+            description.append(clash).append("\n");
         }
+        return description.toString().trim();
     }
 
-    private boolean isLineAppended(String storableLine, Storage storage) {
+    private boolean isLineAppended(byte[] storableLine, Storage storage) {
         return storage.isLineAppended(storableLine);
     }
 }
@@ -0,0 +1,38 @@
+package command;
+
+import exceptions.DukeException;
+import storage.Storage;
+import task.RecurringTask;
+import tasklist.TaskList;
+import ui.UI;
+
+/**
+ * Command that handles adding RecurringTask to TaskList and Storage.
+ */
+public class AddRecurringTaskCommand extends Command {
+    private RecurringTask recurringTask;
+
+    public AddRecurringTaskCommand(RecurringTask recurringTask) {
+        this.recurringTask = recurringTask;
+    }
+
+    /**
+     * Runs when recurring task is to be added.
+     *
+     * @param taskList TaskList to append RecurringTask to.
+     * @param ui ui provides user command.
+     * @param storage Storage space to append RecurringTask to.
+     * @throws DukeException When parsing user command fails.
+     */
+    @Override
+    public void execute(TaskList taskList, UI ui, Storage storage) throws DukeException {
+        if (isLineAppended(recurringTask.toStorageBytes(), storage)) {
+            taskList.addTask(recurringTask);
+            ui.showMessage("Added recurring task");
+        }
+    }
+
+    private boolean isLineAppended(byte[] storableLine, Storage storage) {
+        return storage.isLineAppended(storableLine);
+    }
+}
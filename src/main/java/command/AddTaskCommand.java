@@ -25,13 +25,12 @@ public class AddTaskCommand extends Command {
      */
     @Override
     public void execute(TaskList taskList, UI ui, Storage storage) throws DukeException {
-        String storableLine = task + "\n";
-        if (isLineAppended(storableLine, storage)) {
+        if (isLineAppended(task.toStorageBytes(), storage)) {
             taskList.addTask(task);
             ui.showMessage("Added task");
         }
     }
-    private boolean isLineAppended(String storableLine, Storage storage) {
+    private boolean isLineAppended(byte[] storableLine, Storage storage) {
         return storage.isLineAppended(storableLine);
     }
 }
@@ -0,0 +1,52 @@
+package command;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import exceptions.DukeException;
+import storage.Storage;
+import task.Task;
+import tasklist.TaskList;
+import ui.UI;
+
+/**
+ * Lists everything due or happening between two dates,
+ * including each occurrence of recurring tasks in that range.
+ */
+public class AgendaCommand extends Command {
+    private final LocalDate from;
+    private final LocalDate to;
+
+    /**
+     * Constructor.
+     *
+     * @param from First date of the agenda.
+     * @param to Last date of the agenda (inclusive).
+     */
+    public AgendaCommand(LocalDate from, LocalDate to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public void execute(TaskList taskList, UI ui, Storage storage) throws DukeException {
+        Map<LocalDate, List<Task>> agenda = taskList.getAgenda(from, to);
+        if (agenda.isEmpty()) {
+            ui.showMessage("Nothing planned from " + from + " to " + to);
+            return;
+        }
+        StringBuilder contents = new StringBuilder("Agenda from " + from + " to " + to + ":\n");
+        for (Map.Entry<LocalDate, List<Task>> day : agenda.entrySet()) {
+            for (Task task : day.getValue()) {
+                contents.append(day.getKey()).append(" ").append(task).append("\n");
+            }
+        }
+        ui.showMessage(contents.toString().trim());
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
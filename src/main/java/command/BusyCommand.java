@@ -0,0 +1,50 @@
+package command;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import exceptions.DukeException;
+import storage.Storage;
+import task.Task;
+import tasklist.TaskList;
+import ui.UI;
+
+/**
+ * Lists events and recurring tasks that take up
+ * at least one day between two dates.
+ */
+public class BusyCommand extends Command {
+    private final LocalDate from;
+    private final LocalDate to;
+
+    /**
+     * Constructor.
+     *
+     * @param from First date to check.
+     * @param to Last date to check (inclusive).
+     */
+    public BusyCommand(LocalDate from, LocalDate to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public void execute(TaskList taskList, UI ui, Storage storage) throws DukeException {
+        List<Task> events = taskList.findEventsBetween(from, to);
+        String range = from.equals(to) ? "on " + from : "from " + from + " to " + to;
+        if (events.isEmpty()) {
+            ui.showMessage("Free " + range);
+            return;
+        }
+        StringBuilder contents = new StringBuilder("Busy " + range + " with:\n");
+        for (Task event : events) {
+            contents.append(event).append("\n");
+        }
+        ui.showMessage(contents.toString().trim());
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
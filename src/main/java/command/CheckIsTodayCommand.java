@@ -19,6 +19,11 @@ public class CheckIsTodayCommand extends Command {
     public CheckIsTodayCommand(int index) {
         this.index = index;
     }
+
+    @Override
+    public int getIndex() {
+        return index;
+    }
     /**
      * Checks if task at index n in taskList
      * is due/happening today.
@@ -43,4 +48,9 @@ public class CheckIsTodayCommand extends Command {
     private boolean isDueToday(int index, TaskList taskList) throws DukeException {
         return taskList.checkIsToday(index);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
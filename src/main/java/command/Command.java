@@ -23,4 +23,25 @@ public abstract class Command {
         return false;
     }
 
+    /**
+     * Returns false as commands may change TaskList or Storage.
+     * Commands that only read should return true, which allows
+     * them to run alongside other read-only commands.
+     *
+     * @return false.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
+
+    /**
+     * Returns 0 as commands may not act on a single task.
+     * Commands that act on the task at an index should return that index.
+     *
+     * @return 0.
+     */
+    public int getIndex() {
+        return 0;
+    }
+
 }
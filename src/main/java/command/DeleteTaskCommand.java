@@ -17,6 +17,11 @@ public class DeleteTaskCommand extends Command {
     public DeleteTaskCommand(int index) {
         this.index = index;
     }
+
+    @Override
+    public int getIndex() {
+        return index;
+    }
     @Override
     public void execute(TaskList taskList, UI ui, Storage storage) throws DukeException {
         if (!isValidIndex(index, taskList.getSize())) {
@@ -0,0 +1,40 @@
+package command;
+
+import java.util.List;
+
+import exceptions.DukeException;
+import storage.Storage;
+import tasklist.TaskList;
+import ui.UI;
+
+/**
+ * Command that lists tasks matching a combination
+ * of tags and done status, one page at a time.
+ */
+public class FilterCommand extends Command {
+    private final List<List<String>> clauses;
+    private final ListCommand listing;
+
+    /**
+     * Constructor.
+     *
+     * @param clauses Conditions a task must meet, where a task meets a clause
+     *     if it meets any condition in it.
+     * @param listing Lists the page of matching tasks to show.
+     */
+    public FilterCommand(List<List<String>> clauses, ListCommand listing) {
+        this.clauses = clauses;
+        this.listing = listing;
+    }
+
+    @Override
+    public void execute(TaskList taskList, UI ui, Storage storage) throws DukeException {
+        TaskList matchedTasks = taskList.filterTasks(clauses);
+        listing.execute(matchedTasks, ui, storage);
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
@@ -2,23 +2,52 @@ package command;
 
 import exceptions.DukeException;
 import storage.Storage;
+import tasklist.Query;
+import tasklist.QueryPlan;
 import tasklist.TaskList;
 import ui.UI;
 
 /**
  * Command that represents a
  * find operation on TaskList.
+ * Tasks found are listed one page at a time.
  */
 public class FindCommand extends Command {
-    private String keyword;
+    private final Query query;
+    private final boolean isExplained;
+    private final ListCommand listing;
 
     public FindCommand(String keyword) {
-        this.keyword = keyword;
+        this(Query.text(keyword), false, ListCommand.ofPage(1, "find " + keyword));
     }
+
+    /**
+     * Constructor.
+     *
+     * @param query Condition tasks found must meet.
+     * @param isExplained Whether to show how the tasks were found.
+     * @param listing Lists the page of tasks found to show.
+     */
+    public FindCommand(Query query, boolean isExplained, ListCommand listing) {
+        this.query = query;
+        this.isExplained = isExplained;
+        this.listing = listing;
+    }
+
     @Override
     public void execute(TaskList taskList, UI ui, Storage storage) throws DukeException {
-        TaskList matchedTasks = taskList.findTasks(keyword);
-        ListCommand listCommand = new ListCommand();
-        listCommand.execute(matchedTasks, ui, storage);
+        QueryPlan plan = taskList.plan(query);
+        TaskList matchedTasks = plan.execute();
+        if (isExplained) {
+            ui.showMessage(plan.describe() + "\nScanned " + plan.getNoOfTasksScanned() + " of "
+                    + taskList.getSize() + " tasks, " + matchedTasks.getSize() + " matched");
+            return;
+        }
+        listing.execute(matchedTasks, ui, storage);
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
     }
 }
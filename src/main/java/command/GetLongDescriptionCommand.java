@@ -17,6 +17,11 @@ public class GetLongDescriptionCommand extends Command {
     public GetLongDescriptionCommand(int index) {
         this.index = index;
     }
+
+    @Override
+    public int getIndex() {
+        return index;
+    }
     @Override
     public void execute(TaskList taskList, UI ui, Storage storage) throws DukeException {
         if (!isValidIndex(index, taskList.getSize())) {
@@ -24,4 +29,9 @@ public class GetLongDescriptionCommand extends Command {
         }
         ui.showMessage(taskList.getLongDescription(index));
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -15,4 +15,9 @@ public class HelpCommand extends Command {
     public void execute(TaskList taskList, UI ui, Storage storage) throws DukeException {
         ui.showHelpMessage();
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
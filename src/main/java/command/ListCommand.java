@@ -1,33 +1,123 @@
 package command;
 
+import java.util.function.Consumer;
+
 import exceptions.DukeException;
 import storage.Storage;
 import tasklist.TaskList;
 import ui.UI;
 
 /**
- * Lists all tasks in TaskList.
+ * Lists tasks in TaskList, one page at a time.
+ * Without a range, the first page is listed.
+ * Other commands listing tasks, such as find, list them a page at a time with this too,
+ * and name themselves as the pagedCommand to type for the next page.
  */
 public class ListCommand extends Command {
+    public static final int PAGE_SIZE = 100;
+    private final int from;
+    private final int to;
+    private final String pagedCommand;
+
+    /**
+     * Writes formatted tasks from index from to index to (both 1-indexed, inclusive) to sink.
+     */
+    interface TaskWriter {
+        void write(int from, int to, Consumer<CharSequence> sink);
+    }
+
+    public ListCommand() {
+        this(1, PAGE_SIZE);
+    }
+
+    public ListCommand(int from, int to) {
+        this(from, to, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param from Index of first task to list (1-indexed).
+     * @param to Index of last task to list (inclusive).
+     * @param pagedCommand Command listing these tasks, to be typed with "page n" for
+     *     page n, or null if they are listed by list itself.
+     */
+    private ListCommand(int from, int to, String pagedCommand) {
+        this.from = from;
+        this.to = to;
+        this.pagedCommand = pagedCommand;
+    }
+
+    /**
+     * Returns command listing the given page.
+     *
+     * @param page Page number, starting from 1.
+     * @return ListCommand for that page.
+     */
+    public static ListCommand ofPage(int page) {
+        return ofPage(page, null);
+    }
+
+    /**
+     * Returns command listing the given page of the tasks listed by pagedCommand.
+     *
+     * @param page Page number, starting from 1.
+     * @param pagedCommand Command to type with "page n" to list page n,
+     *     or null if the tasks are listed by list itself.
+     * @return ListCommand for that page.
+     */
+    public static ListCommand ofPage(int page, String pagedCommand) {
+        return new ListCommand((page - 1) * PAGE_SIZE + 1, page * PAGE_SIZE, pagedCommand);
+    }
+
     @Override
     public void execute(TaskList taskList, UI ui, Storage storage) throws DukeException {
-        StringBuffer contents = new StringBuffer();
+        execute(taskList.getSize(), taskList::writeContents, ui);
+    }
+
+    /**
+     * Lists the page of tasks written by writer, which has size tasks to write in all.
+     * Only the tasks on the page are written.
+     *
+     * @param size Number of tasks writer can write.
+     * @param writer Writes the tasks on the page.
+     * @param ui UI showing the page.
+     * @throws DukeException When the page starts after the last task.
+     */
+    void execute(int size, TaskWriter writer, UI ui) throws DukeException {
+        if (size > 0 && from > size) {
+            throw new DukeException("There are only " + size + " tasks in your list");
+        }
+        StringBuilder contents = new StringBuilder();
         openList(contents);
-        addTasksToList(contents, taskList);
-        closeList(contents, taskList);
+        writer.write(from, to, contents::append);
+        closeList(contents, size);
         ui.showMessage(contents.toString());
     }
 
-    private void openList(StringBuffer list) {
+    private void openList(StringBuilder list) {
         list.append("Tasks in your list are:\n________\n");
     }
 
-    private void addTasksToList(StringBuffer list, TaskList taskList) {
-        list.append(taskList.getContents());
+    private void closeList(StringBuilder list, int size) {
+        list.append("________\n");
+        if (from > 1 || to < size) {
+            int last = Math.min(to, size);
+            list.append("Showing ").append(from).append("-").append(last).append(".");
+            if (last < size && pagedCommand == null) {
+                list.append(" Type list ").append(last + 1).append("-").append(last + PAGE_SIZE)
+                        .append(" for more.");
+            } else if (last < size) {
+                list.append(" Type ").append(pagedCommand).append(" page ").append(last / PAGE_SIZE + 1)
+                        .append(" for more.");
+            }
+            list.append("\n");
+        }
+        list.append("Total: ").append(size);
     }
 
-    private void closeList(StringBuffer list, TaskList taskList) {
-        list.append("________\n");
-        list.append("Total: " + taskList.getSize());
+    @Override
+    public boolean isReadOnly() {
+        return true;
     }
 }
@@ -18,18 +18,23 @@ public class MarkCommand extends Command {
     public MarkCommand(int index) {
         this.index = index;
     }
+
+    @Override
+    public int getIndex() {
+        return index;
+    }
     @Override
     public void execute(TaskList taskList, UI ui, Storage storage) throws DukeException {
         if (!isValidIndex(index, taskList.getSize())) {
             throw new DukeException("Invalid index");
         }
         taskList.markTask(index);
-        String storeLine = taskList.getTask(index).toString() + "\n";
+        byte[] storeLine = taskList.getTask(index).toStorageBytes();
         if (isLineChanged(index, storeLine, storage)) {
             ui.showMessage("marked task");
         }
     }
-    private boolean isLineChanged(int index, String storeLine, Storage storage) {
+    private boolean isLineChanged(int index, byte[] storeLine, Storage storage) {
         return storage.isLineChanged(index, storeLine);
     }
 }
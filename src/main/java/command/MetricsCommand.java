@@ -0,0 +1,23 @@
+package command;
+
+import exceptions.DukeException;
+import storage.Storage;
+import tasklist.TaskList;
+import ui.UI;
+import utility.CommandMetrics;
+
+/**
+ * Shows p50, p99 and max latency of every kind of command handled so far,
+ * split into parsing, executing and writing storage.
+ */
+public class MetricsCommand extends Command {
+    @Override
+    public void execute(TaskList taskList, UI ui, Storage storage) throws DukeException {
+        ui.showMessage(CommandMetrics.getReport());
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
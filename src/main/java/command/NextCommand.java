@@ -0,0 +1,41 @@
+package command;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import exceptions.DukeException;
+import storage.Storage;
+import task.Task;
+import tasklist.TaskList;
+import ui.UI;
+
+/**
+ * Lists the tasks not yet done that are due or happen soonest from today.
+ */
+public class NextCommand extends Command {
+    private final int noOfTasks;
+
+    public NextCommand(int noOfTasks) {
+        this.noOfTasks = noOfTasks;
+    }
+
+    @Override
+    public void execute(TaskList taskList, UI ui, Storage storage) throws DukeException {
+        LocalDate today = taskList.getTodayClock().getDate();
+        List<Task> nextTasks = taskList.getNextTasks(noOfTasks, today);
+        if (nextTasks.isEmpty()) {
+            ui.showMessage("Nothing coming up");
+            return;
+        }
+        StringBuilder contents = new StringBuilder("Next " + nextTasks.size() + " coming up:\n");
+        for (Task task : nextTasks) {
+            contents.append(task.getNextDate(today)).append(" ").append(task).append("\n");
+        }
+        ui.showMessage(contents.toString().trim());
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
@@ -0,0 +1,37 @@
+package command;
+
+import exceptions.DukeException;
+import storage.Storage;
+import tasklist.SortOrder;
+import tasklist.TaskList;
+import ui.UI;
+
+/**
+ * Command that lists all tasks sorted by date, status or type, one page at a time.
+ */
+public class SortCommand extends Command {
+    private final SortOrder order;
+    private final ListCommand listing;
+
+    /**
+     * Constructor.
+     *
+     * @param order Order to list tasks in.
+     * @param listing Lists the page of sorted tasks to show.
+     */
+    public SortCommand(SortOrder order, ListCommand listing) {
+        this.order = order;
+        this.listing = listing;
+    }
+
+    @Override
+    public void execute(TaskList taskList, UI ui, Storage storage) throws DukeException {
+        listing.execute(taskList.getSize(),
+                (from, to, sink) -> taskList.writeSortedContents(order, from, to, sink), ui);
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
@@ -0,0 +1,60 @@
+package command;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import exceptions.DukeException;
+import storage.Storage;
+import task.Deadline;
+import task.Event;
+import task.RecurringTask;
+import task.Task;
+import tasklist.TaskList;
+import tasklist.TaskStatistics;
+import ui.UI;
+
+/**
+ * Shows how many tasks there are of each type and status,
+ * and how many are due and were completed today and this week.
+ */
+public class StatsCommand extends Command {
+    private static final Map<Class<? extends Task>, String> TYPE_NAMES = new LinkedHashMap<>();
+
+    static {
+        TYPE_NAMES.put(Task.class, "Todos");
+        TYPE_NAMES.put(Deadline.class, "Deadlines");
+        TYPE_NAMES.put(Event.class, "Events");
+        TYPE_NAMES.put(RecurringTask.class, "Recurring tasks");
+    }
+
+    @Override
+    public void execute(TaskList taskList, UI ui, Storage storage) throws DukeException {
+        TaskStatistics statistics = taskList.getStatistics();
+        LocalDate today = taskList.getTodayClock().getDate();
+        LocalDate monday = today.with(DayOfWeek.MONDAY);
+        LocalDate sunday = today.with(DayOfWeek.SUNDAY);
+        StringBuilder contents = new StringBuilder();
+        contents.append("Tasks: ").append(statistics.getNoOfTasks())
+                .append(" (").append(statistics.getNoOfDoneTasks()).append(" done)\n");
+        for (Map.Entry<Class<? extends Task>, String> type : TYPE_NAMES.entrySet()) {
+            int noOfTasks = statistics.getNoOfTasks(type.getKey());
+            int noOfDoneTasks = statistics.getNoOfDoneTasks(type.getKey());
+            contents.append(type.getValue()).append(": ").append(noOfTasks - noOfDoneTasks)
+                    .append(" open, ").append(noOfDoneTasks).append(" done\n");
+        }
+        contents.append("Due today: ").append(statistics.getNoOfTasksDueBetween(today, today))
+                .append(" (").append(statistics.getNoOfOpenTasksDueBetween(today, today)).append(" open)\n");
+        contents.append("Due this week: ").append(statistics.getNoOfTasksDueBetween(monday, sunday))
+                .append(" (").append(statistics.getNoOfOpenTasksDueBetween(monday, sunday)).append(" open)\n");
+        contents.append("Completed today: ").append(statistics.getNoOfTasksCompletedBetween(today, today))
+                .append(", this week: ").append(statistics.getNoOfTasksCompletedBetween(monday, today));
+        ui.showMessage(contents.toString());
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
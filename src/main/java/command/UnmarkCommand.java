@@ -18,19 +18,24 @@ public class UnmarkCommand extends Command {
     public UnmarkCommand(int index) {
         this.index = index;
     }
+
+    @Override
+    public int getIndex() {
+        return index;
+    }
     @Override
     public void execute(TaskList taskList, UI ui, Storage storage) throws DukeException {
         if (!isValidIndex(index, taskList.getSize())) {
             throw new DukeException("Invalid index");
         }
         taskList.unmarkTask(index);
-        String storeLine = taskList.getTask(index).toString() + "\n";
+        byte[] storeLine = taskList.getTask(index).toStorageBytes();
         if (isLineChanged(index, storeLine, storage)) {
             ui.showMessage("unmarked task");
         }
     }
 
-    private boolean isLineChanged(int index, String storeLine, Storage storage) {
+    private boolean isLineChanged(int index, byte[] storeLine, Storage storage) {
         return storage.isLineChanged(index, storeLine);
     }
 }
@@ -0,0 +1,60 @@
+package duke;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for one command, or one chain of commands, handled by Duke.
+ * Its duration covers executing the command, including writing storage,
+ * and for a chain of commands also parsing them.
+ * While no recording is running, begin(), end() and shouldCommit() cost next to nothing.
+ */
+@Name("duke.Command")
+@Label("Command")
+@Category("Duke")
+@Description("Execution of a command")
+@StackTrace(false)
+class CommandEvent extends Event {
+    static final String SUCCEEDED = "succeeded";
+    static final String FAILED = "failed";
+    static final String CRASHED = "crashed";
+
+    @Label("Command Type")
+    private String commandType;
+
+    @Label("Index")
+    @Description("Index of the task the command acts on, or 0 if it does not act on a single task")
+    private int index;
+
+    @Label("Outcome")
+    @Description("succeeded, failed with an error shown to the user, or crashed with an unexpected exception")
+    private String outcome;
+
+    /**
+     * Creates and begins an event.
+     */
+    CommandEvent() {
+        begin();
+    }
+
+    /**
+     * Ends the event and commits it if it is being recorded.
+     *
+     * @param commandType Kind of command, such as MarkCommand.
+     * @param index Index of the task the command acts on, or 0.
+     * @param outcome SUCCEEDED, FAILED or CRASHED.
+     */
+    void finish(String commandType, int index, String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.commandType = commandType;
+            this.index = index;
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package duke;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Launches Duke on the console, without starting JavaFX.
+ * Runs the command given as arguments, e.g. {@code duke list},
+ * or otherwise every line read from standard input.
+ * Reports startup time on standard error, keeping standard
+ * output for responses only.
+ */
+public class ConsoleLauncher {
+
+    /**
+     * Runs commands from args, or from standard input if no args are given.
+     *
+     * @param args words of a single command to run.
+     * @throws IOException When standard input cannot be read.
+     */
+    public static void main(String[] args) throws IOException {
+        long mainStartNanos = System.nanoTime();
+        Duke duke = new Duke("src/main/java/data/tasks.txt");
+        reportStartupTime(mainStartNanos);
+
+        if (args.length > 0) {
+            System.out.println(getResponse(duke, String.join(" ", args)));
+            return;
+        }
+        BufferedReader reader = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        String input;
+        while ((input = reader.readLine()) != null) {
+            if (!input.isBlank()) {
+                System.out.println(getResponse(duke, input));
+            }
+        }
+    }
+
+    private static String getResponse(Duke duke, String input) {
+        try {
+            return duke.getResponse(input);
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+            return "Something went wrong: " + e;
+        }
+    }
+
+    private static void reportStartupTime(long mainStartNanos) {
+        long startupMillis = (System.nanoTime() - mainStartNanos) / 1_000_000;
+        System.err.println("Ready in " + startupMillis + " ms");
+    }
+}
@@ -0,0 +1,68 @@
+package duke;
+
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.Label;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Region;
+import javafx.scene.text.Font;
+
+/**
+ * Dialog box consisting of an ImageView to represent the speaker's face
+ * and a label containing text from the speaker.
+ * Built in code rather than loaded from FXML, since a new box is needed for
+ * every message; the font and padding are created once and shared.
+ */
+public class DialogBox extends HBox {
+    private static final Font FONT = Font.font("Comic Sans MS", 15.0);
+    private static final Insets PADDING = new Insets(15.0, 5.0, 15.0, 5.0);
+    static final double PICTURE_SIZE = 99.0;
+    private final Label dialog = new Label();
+
+    /**
+     * Constructor.
+     *
+     * @param text Text from the speaker.
+     * @param img Picture of the speaker.
+     * @param isPictureOnLeft Whether the picture goes left of the text.
+     * @param backgroundColour CSS colour behind the dialog box.
+     */
+    protected DialogBox(String text, Image img, boolean isPictureOnLeft, String backgroundColour) {
+        dialog.setText(text);
+        dialog.setFont(FONT);
+        dialog.setWrapText(true);
+        dialog.setMinWidth(Region.USE_PREF_SIZE);
+        dialog.setMinHeight(Region.USE_PREF_SIZE);
+        dialog.setMaxWidth(Region.USE_PREF_SIZE);
+        dialog.setMaxHeight(Region.USE_PREF_SIZE);
+
+        ImageView displayPicture = new ImageView(img);
+        displayPicture.setFitWidth(PICTURE_SIZE);
+        displayPicture.setFitHeight(PICTURE_SIZE);
+        displayPicture.setPreserveRatio(true);
+        displayPicture.setPickOnBounds(true);
+
+        if (isPictureOnLeft) {
+            getChildren().addAll(displayPicture, dialog);
+            setAlignment(Pos.TOP_LEFT);
+        } else {
+            getChildren().addAll(dialog, displayPicture);
+            setAlignment(Pos.TOP_RIGHT);
+        }
+        setPadding(PADDING);
+        setMaxWidth(Double.MAX_VALUE);
+        setPrefWidth(400.0);
+        setStyle("-fx-background-color: " + backgroundColour + ";");
+    }
+
+    /**
+     * Replaces the text shown in the dialog box.
+     *
+     * @param text New text to be shown.
+     */
+    public void setMessage(String text) {
+        dialog.setText(text);
+    }
+}
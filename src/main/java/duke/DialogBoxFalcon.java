@@ -1,57 +1,17 @@
 package duke;
-import java.io.IOException;
-import java.util.Collections;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.geometry.Pos;
-import javafx.scene.Node;
-import javafx.scene.control.Label;
 import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
-import javafx.scene.layout.HBox;
 
 /**
- * An example of a custom control using FXML.
- * This control represents a dialog box consisting of an ImageView to represent the speaker's face and a label
- * containing text from the speaker.
+ * Dialog box showing text from Falcon, with its picture on the left.
  */
-public class DialogBoxFalcon extends HBox {
-    @FXML
-    private Label dialogFalcon;
-    @FXML
-    private ImageView displayPictureFalcon;
+public class DialogBoxFalcon extends DialogBox {
 
     private DialogBoxFalcon(String text, Image img) {
-        try {
-            String resourceName = "/view/DialogBoxFalcon.fxml";
-            FXMLLoader fxmlLoader = new FXMLLoader(MainWindow.class.getResource(resourceName));
-            fxmlLoader.setController(this);
-            fxmlLoader.setRoot(this);
-            fxmlLoader.load();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-
-        dialogFalcon.setText(text);
-        displayPictureFalcon.setImage(img);
-    }
-
-    /**
-     * Flips the dialog box such that the ImageView is on the left and text on the right.
-     */
-    private void flip() {
-        ObservableList<Node> tmp = FXCollections.observableArrayList(this.getChildren());
-        Collections.reverse(tmp);
-        getChildren().setAll(tmp);
-        setAlignment(Pos.TOP_LEFT);
+        super(text, img, true, "pink");
     }
 
     public static DialogBoxFalcon getFalconDialog(String text, Image img) {
-        var dialogBoxFalcon = new DialogBoxFalcon(text, img);
-        dialogBoxFalcon.flip();
-        return dialogBoxFalcon;
+        return new DialogBoxFalcon(text, img);
     }
 }
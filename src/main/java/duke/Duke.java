@@ -1,59 +1,250 @@
 package duke;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
 import command.Command;
 import exceptions.DukeException;
-import javafx.application.Application;
-import javafx.stage.Stage;
+import reminder.ReminderScheduler;
 import storage.Storage;
+import task.Task;
+import tasklist.SearchResult;
 import tasklist.TaskList;
+import ui.Response;
 import ui.UI;
+import utility.CommandMetrics;
 import utility.Parser;
+import utility.TodayClock;
 
 /**
  * Main duke.Duke class.
+ * Safe to use from several threads: read-only commands
+ * run alongside each other, while all other commands
+ * run one at a time.
+ * Tasks may be loaded in the background: read-only commands then
+ * run against the tasks loaded so far and say so, while all other
+ * commands wait until loading finishes.
+ * If tasks could not all be loaded, commands that change tasks are refused,
+ * so the tasks that were not loaded are never written over.
+ * The latency of every command is recorded in CommandMetrics,
+ * and flight recordings get a CommandEvent for every command.
  */
-public class Duke extends Application {
+public class Duke {
+    private static final String COMMAND_SEPARATOR = ";";
+    private static final int TASKS_PER_BATCH = 1000;
+    private static final String TRANSACTION_NAME = "Transaction";
 
     private Storage storage;
     private TaskList tasks;
-    private UI ui;
+    private final ReadWriteLock tasksLock = new ReentrantReadWriteLock();
+    private final CompletableFuture<Void> loading = new CompletableFuture<>();
+    private volatile String loadFailure;
 
     /**
      * Constructor.
+     * Loads all tasks before returning.
      *
      * @param filePath
      */
     public Duke(String filePath) {
+        CommandMetrics.startDumpingIfRequested();
         try {
-            ui = new UI();
             storage = new Storage(filePath);
             tasks = storage.syncArrayList();
         } catch (DukeException e) {
             System.out.println(e);
-            ui.showLoadingError();
+            loadFailure = e.getMessage();
+        } finally {
+            loading.complete(null);
+        }
+    }
+
+    /**
+     * Constructor.
+     * Returns at once and loads tasks on a background thread,
+     * so input can be accepted while they load.
+     *
+     * @param filePath
+     * @param progressHandler Receives the percentage of tasks loaded
+     *     whenever it goes up, ending with 100, on the loading thread.
+     */
+    public Duke(String filePath, IntConsumer progressHandler) {
+        CommandMetrics.startDumpingIfRequested();
+        storage = new Storage(filePath);
+        tasks = new TaskList();
+        Thread loader = new Thread(() -> loadTasks(progressHandler), "duke-load");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    private void loadTasks(IntConsumer progressHandler) {
+        int[] lastPercentLoaded = {0};
+        try {
+            storage.loadInBatches(TASKS_PER_BATCH, (batch, percentLoaded) -> {
+                addLoadedTasks(batch);
+                if (percentLoaded > lastPercentLoaded[0] && percentLoaded < 100) {
+                    lastPercentLoaded[0] = percentLoaded;
+                    progressHandler.accept(percentLoaded);
+                }
+            });
+        } catch (DukeException | RuntimeException e) {
+            System.out.println(e);
+            loadFailure = e.getMessage();
+        } finally {
+            loading.complete(null);
+            progressHandler.accept(100);
+        }
+    }
+
+    private void addLoadedTasks(List<Task> batch) {
+        tasksLock.writeLock().lock();
+        try {
+            for (Task task : batch) {
+                tasks.addTask(task);
+            }
+        } finally {
+            tasksLock.writeLock().unlock();
+        }
+    }
+
+    public boolean isLoaded() {
+        return loading.isDone();
+    }
+
+    /**
+     * Throws if tasks finished loading but could not all be loaded.
+     * Changes must then be refused, as saving them would write
+     * the partly loaded list over the tasks in storage.
+     */
+    private void checkFullyLoaded() throws DukeException {
+        if (loadFailure != null) {
+            throw new DukeException("Tasks could not all be loaded (" + loadFailure + "), so no changes can be made."
+                    + "\nFix or restore the storage file and restart.");
         }
     }
 
-    @Override
-    public void start(Stage stage) {
+    /**
+     * Starts sending reminders for open Deadlines and Events on the day
+     * they are due, beginning with those due today.
+     * If tasks are still loading, reminders start once they are loaded.
+     *
+     * @param noticeHandler Receives the text of every reminder, on any thread.
+     */
+    public void startReminders(Consumer<String> noticeHandler) {
+        loading.thenRun(() -> scheduleReminders(noticeHandler));
+    }
 
+    private void scheduleReminders(Consumer<String> noticeHandler) {
+        if (tasks == null) {
+            return;
+        }
+        TodayClock today = tasks.getTodayClock();
+        ReminderScheduler reminders = new ReminderScheduler(today, noticeHandler);
+        tasksLock.writeLock().lock();
+        try {
+            tasks.addListener(reminders);
+        } finally {
+            tasksLock.writeLock().unlock();
+        }
+        today.addRolloverListener(reminders::fireDueReminders);
+        reminders.fireDueReminders();
+    }
+
+    /**
+     * Applies reader to the tasks loaded so far while no command changes them,
+     * alongside read-only commands.
+     *
+     * @param reader Function reading tasks, which must not change them.
+     * @param <T> Type of value read.
+     * @return Value returned by reader.
+     */
+    public <T> T readTasks(Function<TaskList, T> reader) {
+        tasksLock.readLock().lock();
+        try {
+            return reader.apply(tasks);
+        } finally {
+            tasksLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Applies reader to the tasks like readTasks(), unless a command is
+     * changing them, in which case returns busyValue at once instead of waiting.
+     *
+     * @param reader Function reading tasks, which must not change them.
+     * @param busyValue Value returned if the tasks are being changed.
+     * @param <T> Type of value read.
+     * @return Value returned by reader, or busyValue.
+     */
+    public <T> T tryReadTasks(Function<TaskList, T> reader, T busyValue) {
+        if (!tasksLock.readLock().tryLock()) {
+            return busyValue;
+        }
+        try {
+            return reader.apply(tasks);
+        } finally {
+            tasksLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns tasks whose description includes text, narrowing previous
+     * where it was found for a shorter text and no task has changed since.
+     * Runs alongside read-only commands, against the tasks loaded so far.
+     *
+     * @param text Text to look for.
+     * @param previous Result of the last search, or null.
+     * @return Tasks found.
+     */
+    public SearchResult searchTasks(String text, SearchResult previous) {
+        return readTasks(tasks -> tasks.searchTasks(text, previous));
     }
 
     /**
      * Handles user input.
-     * Returns response retrieved from UI class.
+     * Returns message of the response to the input.
+     *
+     * @param input user input
+     * @return message to show the user.
+     */
+    public String getResponse(String input) {
+        return respond(input).getMessage();
+    }
+
+    /**
+     * Handles user input.
+     * Returns response retrieved from a UI created for this input only.
      * Causes System to exit if input corresponds to exit
      * command.
      *
      * @param input user input
-     * @return
+     * @return response to the input.
      */
-    public String getResponse(String input) {
+    public Response respond(String input) {
+        UI ui = new UI();
+        ui.setCurrentInput(input);
+        if (input.contains(COMMAND_SEPARATOR)) {
+            loading.join();
+            try {
+                checkFullyLoaded();
+                executeTransaction(input, ui);
+            } catch (DukeException e) {
+                ui.showError(e.getMessage() + "\nNothing was applied.");
+            }
+            return ui.toResponse();
+        }
         boolean isExit;
         try {
+            long parseStart = System.nanoTime();
             Command c = Parser.parse(input);
-            ui.setCurrentInput(input);
-            c.execute(tasks, ui, storage);
+            execute(c, ui, System.nanoTime() - parseStart);
             isExit = c.isExit();
             if (isExit) {
                 System.exit(0);
@@ -61,7 +252,111 @@ public class Duke extends Application {
         } catch (DukeException e) {
             ui.showError(e.getMessage());
         }
-        String response = ui.getResponse();
-        return response;
+        return ui.toResponse();
+    }
+
+    /**
+     * Executes c, after waiting for tasks to load unless c is read-only.
+     * Commands that change tasks are refused if they could not all be loaded.
+     * Responses of read-only commands run before loading finishes, or after it failed, are marked as partial.
+     * Records the latencies of c, including parseNanos taken to parse it, in CommandMetrics.
+     */
+    private void execute(Command c, UI ui, long parseNanos) throws DukeException {
+        if (!c.isReadOnly()) {
+            loading.join();
+            if (!c.isExit()) {
+                checkFullyLoaded();
+            }
+        }
+        Lock lock = c.isReadOnly() ? tasksLock.readLock() : tasksLock.writeLock();
+        lock.lock();
+        CommandEvent event = new CommandEvent();
+        String outcome = CommandEvent.CRASHED;
+        long executeStart = System.nanoTime();
+        long storageStart = c.isReadOnly() ? 0 : storage.getNanosSpentWriting();
+        try {
+            boolean isPartial = !isLoaded() || loadFailure != null;
+            c.execute(tasks, ui, storage);
+            if (isPartial) {
+                ui.showPartialNote(tasks.getSize());
+            }
+            outcome = CommandEvent.SUCCEEDED;
+        } catch (DukeException e) {
+            outcome = CommandEvent.FAILED;
+            throw e;
+        } finally {
+            long storageNanos = c.isReadOnly() ? -1 : storage.getNanosSpentWriting() - storageStart;
+            long executeNanos = System.nanoTime() - executeStart - Math.max(storageNanos, 0);
+            lock.unlock();
+            String commandName = c.getClass().getSimpleName();
+            event.finish(commandName, c.getIndex(), outcome);
+            CommandMetrics.record(commandName, parseNanos, executeNanos, storageNanos);
+        }
+    }
+
+    /**
+     * Handles several commands separated by ";" as one transaction.
+     * Commands run in order against a staged list of the tasks,
+     * and storage is rewritten once at the end.
+     * If any command fails, nothing is applied.
+     *
+     * @param input user input containing several commands.
+     * @param ui UI to show responses of all commands in, one per line.
+     */
+    private void executeTransaction(String input, UI ui) {
+        tasksLock.writeLock().lock();
+        CommandEvent event = new CommandEvent();
+        String outcome = CommandEvent.CRASHED;
+        long parseStart = System.nanoTime();
+        long parseNanos = -1;
+        long storageStart = storage.getNanosSpentWriting();
+        try {
+            ArrayList<Command> commands = parseAll(input.split(COMMAND_SEPARATOR));
+            parseNanos = System.nanoTime() - parseStart;
+            TaskList stagedTasks = tasks.stageChanges();
+            StringBuilder responses = new StringBuilder();
+            storage.beginTransaction();
+            try {
+                for (Command c : commands) {
+                    c.execute(stagedTasks, ui, storage);
+                    responses.append(ui.getResponse()).append("\n");
+                }
+            } finally {
+                storage.endTransaction();
+            }
+            if (!storage.isTaskListRewritten(stagedTasks)) {
+                throw new DukeException("Could not save changes");
+            }
+            tasks.applyStagedChanges(stagedTasks);
+            ui.showMessage(responses.toString().trim());
+            outcome = CommandEvent.SUCCEEDED;
+        } catch (DukeException e) {
+            ui.showError(e.getMessage() + "\nNothing was applied.");
+            outcome = CommandEvent.FAILED;
+        } finally {
+            long storageNanos = storage.getNanosSpentWriting() - storageStart;
+            long executeNanos = System.nanoTime() - parseStart - parseNanos - storageNanos;
+            tasksLock.writeLock().unlock();
+            event.finish(TRANSACTION_NAME, 0, outcome);
+            if (parseNanos >= 0) {
+                CommandMetrics.record(TRANSACTION_NAME, parseNanos, executeNanos, storageNanos);
+            }
+        }
+    }
+
+    private ArrayList<Command> parseAll(String[] inputs) throws DukeException {
+        ArrayList<Command> commands = new ArrayList<>();
+        for (String input : inputs) {
+            String trimmedInput = input.trim();
+            if (trimmedInput.isEmpty()) {
+                continue;
+            }
+            Command c = Parser.parse(trimmedInput);
+            if (c.isExit()) {
+                throw new DukeException("bye cannot be part of a transaction");
+            }
+            commands.add(c);
+        }
+        return commands;
     }
 }
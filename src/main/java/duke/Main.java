@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.net.URL;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
 import javafx.scene.layout.AnchorPane;
@@ -11,22 +12,49 @@ import javafx.stage.Stage;
 
 /**
  * Main class for setting Duke Scene.
+ * The window is shown before tasks are loaded, and loading
+ * progress is shown in its title. The task table is refreshed every
+ * PERCENT_LOADED_PER_REFRESH percent and once loading finishes,
+ * rather than on every percent, so loading is not slowed down by refreshes.
+ * Resources the window needs are loaded into the ResourceCache
+ * by init(), before the FX thread starts showing it.
  */
 public class Main extends Application {
+    private static final String TITLE = "Falcon";
+    private static final int PERCENT_LOADED_PER_REFRESH = 25;
+
+    @Override
+    public void init() {
+        ResourceCache.warmUp();
+    }
 
     @Override
     public void start(Stage stage) {
         try {
-            Duke duke = new Duke("src/main/java/data/tasks.txt");
-            URL mainWindowUrl = Main.class.getResource("/view/MainWindow.fxml");
+            URL mainWindowUrl = Main.class.getResource(ResourceCache.MAIN_WINDOW_FXML);
             FXMLLoader fxmlLoader = new FXMLLoader(mainWindowUrl);
-            AnchorPane ap = fxmlLoader.load();
+            AnchorPane ap = fxmlLoader.load(ResourceCache.openResource(ResourceCache.MAIN_WINDOW_FXML));
             Scene scene = new Scene(ap);
             stage.setScene(scene);
-            fxmlLoader.<MainWindow>getController().setDuke(duke);
+            stage.setTitle(getTitle(0));
             stage.show();
+            MainWindow mainWindow = fxmlLoader.getController();
+            // Only used on the FX thread
+            int[] lastRefreshedPercent = {0};
+            Duke duke = new Duke("src/main/java/data/tasks.txt", percentLoaded -> Platform.runLater(() -> {
+                stage.setTitle(getTitle(percentLoaded));
+                if (percentLoaded == 100 || percentLoaded - lastRefreshedPercent[0] >= PERCENT_LOADED_PER_REFRESH) {
+                    lastRefreshedPercent[0] = percentLoaded;
+                    mainWindow.refreshTasks();
+                }
+            }));
+            mainWindow.setDuke(duke);
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
+
+    private static String getTitle(int percentLoaded) {
+        return percentLoaded < 100 ? TITLE + " - loading tasks " + percentLoaded + "%" : TITLE;
+    }
 }
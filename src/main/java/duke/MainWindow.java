@@ -1,51 +1,199 @@
 package duke;
 
 
-import java.io.InputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
-import javafx.scene.control.ScrollPane;
+import javafx.scene.control.ListView;
 import javafx.scene.control.TextField;
-import javafx.scene.image.Image;
 import javafx.scene.layout.AnchorPane;
-import javafx.scene.layout.VBox;
+import javafx.util.Duration;
+import task.Task;
+import tasklist.SearchResult;
 
 
 /**
  * Main window class for running Duke.
+ * Commands run on a single background thread, in the order
+ * they were entered, so the window stays responsive while
+ * they execute. Commands that change tasks entered while tasks
+ * are still loading hold up that thread, and so every later
+ * command, until loading finishes.
+ * The chat is a list of Messages shown by a ListView, which only
+ * creates nodes for the rows on screen, so long sessions stay smooth.
+ * Typing in the search field shows matching tasks in place of the chat.
+ * Searches start once typing pauses and run on their own thread, each
+ * narrowing the last result when the text has only grown since.
+ * The Tasks button shows a TaskTable of all tasks in their place instead.
  */
 public class MainWindow extends AnchorPane {
+    private static final String PENDING_MESSAGE = "...";
+    private static final Duration SEARCH_DELAY = Duration.millis(150);
     @FXML
-    private VBox dialogContainer;
+    private ListView<Message> dialogList;
     @FXML
     private TextField userInput;
     @FXML
-    private ScrollPane scrollPane;
+    private TextField searchField;
+    @FXML
+    private ListView<Task> searchResults;
+    @FXML
+    private TaskTable taskTable;
+
+    private final ObservableList<Message> messages = FXCollections.observableArrayList();
 
 
     private Duke duke;
+    private final ExecutorService commandExecutor = newDaemonExecutor("duke-command");
+    private final ExecutorService searchExecutor = newDaemonExecutor("duke-search");
+    private PauseTransition searchDelay;
+    private SearchResult lastSearchResult;
+    private long searchCount = 0;
+    private boolean isTaskTableShown = false;
+
+    @FXML
+    private void initialize() {
+        dialogList.setItems(messages);
+        dialogList.setCellFactory(listView -> new MessageCell());
+        searchDelay = new PauseTransition(SEARCH_DELAY);
+        searchDelay.setOnFinished(event -> search());
+        searchField.textProperty().addListener((observable, oldText, newText) -> searchDelay.playFromStart());
+    }
 
-    private final InputStream userImagePath =
-            this.getClass().getResourceAsStream("/images/user.jpg");
-    private final InputStream falconImagePath =
-            this.getClass().getResourceAsStream("/images/falcon.jpg");
-    private Image userImage = new Image(userImagePath);
-    private Image falconImage = new Image(falconImagePath);
+    static ExecutorService newDaemonExecutor(String threadName) {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
 
+    /**
+     * Connects the window to duke and starts showing its reminders.
+     *
+     * @param d Duke instance to send user input to.
+     */
     public void setDuke(Duke d) {
         duke = d;
-        scrollPane.vvalueProperty().bind(dialogContainer.heightProperty());
+        taskTable.setDuke(duke);
+        taskTable.setOnStatusToggled(this::toggleDone);
+        duke.startReminders(notice -> Platform.runLater(() -> showMessage(Message.fromFalcon(notice))));
     }
 
     @FXML
     private void handleUserInput() {
         String input = userInput.getText();
-        String response = duke.getResponse(input);
-        dialogContainer.getChildren().addAll(
-                DialogBoxUser.getUserDialog(input, userImage),
-                DialogBoxFalcon.getFalconDialog(response, falconImage)
-        );
+        showMessage(Message.fromUser(input));
+        int responseIndex = showMessage(Message.fromFalcon(PENDING_MESSAGE));
         userInput.clear();
+        commandExecutor.execute(() -> {
+            String response = getResponse(input);
+            Platform.runLater(() -> showResponse(responseIndex, response));
+        });
+    }
+
+    /**
+     * Marks task if it is not done, or unmarks it otherwise, with the usual
+     * commands. Its index is looked up just before, on the command thread,
+     * so commands entered earlier cannot move it in between.
+     */
+    private void toggleDone(Task task) {
+        int responseIndex = showMessage(Message.fromFalcon(PENDING_MESSAGE));
+        commandExecutor.execute(() -> {
+            int index = duke.readTasks(tasks -> tasks.getIndexOf(task));
+            String response = index < 0
+                    ? "That task has been deleted"
+                    : getResponse((task.isDone() ? "unmark " : "mark ") + index);
+            Platform.runLater(() -> showResponse(responseIndex, response));
+        });
+    }
+
+    private void showResponse(int responseIndex, String response) {
+        messages.set(responseIndex, Message.fromFalcon(response));
+        refreshTasks();
+    }
+
+    /**
+     * Updates the task table and search results after tasks change,
+     * such as after a command or while tasks load.
+     */
+    public void refreshTasks() {
+        taskTable.refreshTasks();
+        if (lastSearchResult != null) {
+            search();
+        }
+    }
+
+    @FXML
+    private void toggleTaskTable() {
+        isTaskTableShown = !isTaskTableShown;
+        updateView();
+    }
+
+    /**
+     * Shows tasks matching the search field, or the chat again if it is empty.
+     * Only the result of the latest search is shown, as an earlier one may
+     * finish after it.
+     */
+    private void search() {
+        String text = searchField.getText().strip();
+        long searchNo = ++searchCount;
+        if (text.isEmpty() || duke == null) {
+            lastSearchResult = null;
+            updateView();
+            return;
+        }
+        SearchResult previous = lastSearchResult;
+        searchExecutor.execute(() -> {
+            SearchResult result = duke.searchTasks(text, previous);
+            Platform.runLater(() -> {
+                if (searchNo == searchCount) {
+                    lastSearchResult = result;
+                    isTaskTableShown = false;
+                    searchResults.setItems(FXCollections.observableList(result.getTasks()));
+                    updateView();
+                }
+            });
+        });
+    }
+
+    /**
+     * Shows the task table if asked for, otherwise the search results
+     * if there are any, and otherwise the chat.
+     */
+    private void updateView() {
+        boolean isSearchShown = !isTaskTableShown && lastSearchResult != null;
+        taskTable.setVisible(isTaskTableShown);
+        searchResults.setVisible(isSearchShown);
+        dialogList.setVisible(!isTaskTableShown && !isSearchShown);
+    }
+
+    /**
+     * Adds message to the end of the chat and scrolls down to it.
+     * Messages are never removed, so the index returned stays valid.
+     *
+     * @param message Message to show.
+     * @return Index of the message in the chat.
+     */
+    private int showMessage(Message message) {
+        messages.add(message);
+        int index = messages.size() - 1;
+        dialogList.scrollTo(index);
+        return index;
+    }
+
+    private String getResponse(String input) {
+        try {
+            return duke.getResponse(input);
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+            return "Something went wrong: " + e;
+        }
     }
 
 }
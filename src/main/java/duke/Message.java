@@ -0,0 +1,30 @@
+package duke;
+
+/**
+ * One message in the chat, said either by the user or by Falcon.
+ */
+public class Message {
+    private final String text;
+    private final boolean isFromUser;
+
+    private Message(String text, boolean isFromUser) {
+        this.text = text;
+        this.isFromUser = isFromUser;
+    }
+
+    public static Message fromUser(String text) {
+        return new Message(text, true);
+    }
+
+    public static Message fromFalcon(String text) {
+        return new Message(text, false);
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public boolean isFromUser() {
+        return isFromUser;
+    }
+}
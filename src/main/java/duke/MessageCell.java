@@ -0,0 +1,46 @@
+package duke;
+
+import javafx.scene.control.ListCell;
+
+/**
+ * Cell showing one Message in the chat.
+ * The chat only creates cells for the rows on screen and reuses them
+ * as it scrolls, so each cell keeps one dialog box of each kind
+ * and only changes the text shown in it.
+ * Pictures come from the ResourceCache, so all cells share them.
+ */
+public class MessageCell extends ListCell<Message> {
+    private static final double DIALOG_WIDTH = 380.0;
+    private final DialogBoxUser userDialog;
+    private final DialogBoxFalcon falconDialog;
+
+    /**
+     * Constructor.
+     */
+    public MessageCell() {
+        userDialog = DialogBoxUser.getUserDialog("",
+                ResourceCache.getImage(ResourceCache.USER_IMAGE, DialogBox.PICTURE_SIZE));
+        falconDialog = DialogBoxFalcon.getFalconDialog("",
+                ResourceCache.getImage(ResourceCache.FALCON_IMAGE, DialogBox.PICTURE_SIZE));
+        userDialog.setPrefWidth(DIALOG_WIDTH);
+        falconDialog.setPrefWidth(DIALOG_WIDTH);
+        // stops the cells from widening the list and showing a horizontal scroll bar
+        setPrefWidth(0);
+        setStyle("-fx-background-color: transparent; -fx-padding: 0;");
+    }
+
+    @Override
+    protected void updateItem(Message message, boolean isEmpty) {
+        super.updateItem(message, isEmpty);
+        setText(null);
+        if (isEmpty || message == null) {
+            setGraphic(null);
+        } else if (message.isFromUser()) {
+            userDialog.setMessage(message.getText());
+            setGraphic(userDialog);
+        } else {
+            falconDialog.setMessage(message.getText());
+            setGraphic(falconDialog);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package duke;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import exceptions.DukeException;
+import javafx.scene.image.Image;
+import utility.Parser;
+
+/**
+ * Shared cache of the images and other resources the window uses.
+ * Each image is decoded once, at the size it is shown at, and the same
+ * Image is shared by every dialog box. Streams opened to read resources
+ * are always closed.
+ * warmUp() loads everything ahead of time, so that showing the window and
+ * the first messages does not wait for reading, decoding or class loading.
+ * Safe to use from any thread.
+ */
+public class ResourceCache {
+    public static final String USER_IMAGE = "/images/user.jpg";
+    public static final String FALCON_IMAGE = "/images/falcon.jpg";
+    public static final String MAIN_WINDOW_FXML = "/view/MainWindow.fxml";
+    private static final Map<String, Image> IMAGES = new ConcurrentHashMap<>();
+    private static final Map<String, byte[]> RESOURCES = new ConcurrentHashMap<>();
+
+    private ResourceCache() {
+    }
+
+    /**
+     * Returns image at path scaled to fit in a size by size square,
+     * decoding it on the first call only.
+     *
+     * @param path Path of the image among the resources.
+     * @param size Width and height the image is shown at.
+     * @return Shared decoded image.
+     */
+    public static Image getImage(String path, double size) {
+        return IMAGES.computeIfAbsent(path + "@" + size, key -> decodeImage(path, size));
+    }
+
+    /**
+     * Returns a new stream over the resource at path, which is read
+     * from the classpath on the first call only.
+     *
+     * @param path Path of the resource, such as MAIN_WINDOW_FXML.
+     * @return Stream of the resource's bytes, which need not be closed.
+     */
+    public static InputStream openResource(String path) {
+        return new ByteArrayInputStream(RESOURCES.computeIfAbsent(path, ResourceCache::readResource));
+    }
+
+    /**
+     * Decodes both avatars at the size dialog boxes show them, reads the
+     * main window's FXML and loads the classes used to parse commands.
+     * Meant to run off the FX thread before the window is shown.
+     */
+    public static void warmUp() {
+        getImage(USER_IMAGE, DialogBox.PICTURE_SIZE);
+        getImage(FALCON_IMAGE, DialogBox.PICTURE_SIZE);
+        openResource(MAIN_WINDOW_FXML);
+        try {
+            // parsed but never executed, so no task is changed
+            Parser.parse("list");
+            Parser.parse("todo warm up #tag");
+        } catch (DukeException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static Image decodeImage(String path, double size) {
+        try (InputStream stream = openStream(path)) {
+            return new Image(stream, size, size, true, true);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] readResource(String path) {
+        try (InputStream stream = openStream(path)) {
+            return stream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static InputStream openStream(String path) throws FileNotFoundException {
+        InputStream stream = ResourceCache.class.getResourceAsStream(path);
+        if (stream == null) {
+            throw new FileNotFoundException("Missing resource " + path);
+        }
+        return stream;
+    }
+}
@@ -0,0 +1,30 @@
+package duke;
+
+import java.io.IOException;
+
+import server.DukeHttpServer;
+
+/**
+ * Launches Duke as a headless local HTTP server instead of the JavaFX window.
+ * Takes the port to listen on as an optional argument.
+ */
+public class ServerLauncher {
+    private static final int DEFAULT_PORT = 8080;
+
+    /**
+     * Starts the server on localhost and keeps running until the process is stopped.
+     *
+     * @param args optional port number.
+     * @throws IOException When the port cannot be bound.
+     */
+    public static void main(String[] args) throws IOException {
+        // Without TCP_NODELAY every small response waits for a delayed ACK (~40ms).
+        // Only read once, when the HTTP server classes load, so it must be set before any server is created.
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        Duke duke = new Duke("src/main/java/data/tasks.txt");
+        DukeHttpServer server = new DukeHttpServer(duke, port);
+        server.start();
+        System.out.println("Falcon listening on http://localhost:" + server.getPort());
+    }
+}
@@ -0,0 +1,203 @@
+package duke;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.scene.control.CheckBox;
+import javafx.scene.control.TableCell;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import task.Deadline;
+import task.Event;
+import task.RecurringTask;
+import task.Task;
+import tasklist.SortOrder;
+import tasklist.TaskList;
+
+/**
+ * Table of all tasks with their type, status, description and date.
+ * The TableView only creates rows for tasks on screen, and TaskTableItems
+ * reads just those rows from Duke's TaskList, so the table stays responsive
+ * however many tasks there are.
+ * Rows sorted by type, status or date come from the TaskList's sorted views;
+ * other orders are sorted on a background thread, and only again once tasks change.
+ * Ticking or unticking the status of a task asks the onStatusToggled
+ * handler to mark or unmark it.
+ */
+public class TaskTable extends TableView<Task> {
+    private static final Map<Class<? extends Task>, String> TYPE_NAMES = Map.of(
+            Task.class, "Todo", Deadline.class, "Deadline", Event.class, "Event", RecurringTask.class, "Recurring");
+    private final Map<TableColumn<Task, ?>, Comparator<Task>> comparators = new HashMap<>();
+    private final Map<TableColumn<Task, ?>, SortOrder> sortOrders = new HashMap<>();
+    private final ExecutorService rowsExecutor = MainWindow.newDaemonExecutor("duke-table");
+    private Duke duke;
+    private TaskTableItems items;
+    private Consumer<Task> onStatusToggled = task -> { };
+    // Only used on the rowsExecutor thread
+    private long rowsModCount = -1;
+    private String rowsOrder;
+    private Task[] sortedRows;
+
+    /**
+     * Constructor.
+     * Shows no tasks until setDuke() is called.
+     */
+    public TaskTable() {
+        sortOrders.put(addColumn("Type", task -> TYPE_NAMES.get(task.getClass()),
+                SortOrder.TYPE.getComparator(), 80), SortOrder.TYPE);
+        TableColumn<Task, Task> statusColumn = addColumn("Done", task -> task,
+                SortOrder.STATUS.getComparator(), 50);
+        statusColumn.setCellFactory(column -> new StatusCell());
+        sortOrders.put(statusColumn, SortOrder.STATUS);
+        addColumn("Description", Task::getDescription,
+                Comparator.comparing(Task::getDescription, String.CASE_INSENSITIVE_ORDER), 170);
+        sortOrders.put(addColumn("Date", Task::getDate, SortOrder.DATE.getComparator(), 90), SortOrder.DATE);
+        setSortPolicy(table -> {
+            refreshTasks();
+            return true;
+        });
+    }
+
+    /**
+     * Shows the tasks of duke.
+     *
+     * @param duke Duke whose tasks are shown.
+     */
+    public void setDuke(Duke duke) {
+        this.duke = duke;
+        items = new TaskTableItems(duke);
+        setItems(items);
+        refreshTasks();
+    }
+
+    public void setOnStatusToggled(Consumer<Task> onStatusToggled) {
+        this.onStatusToggled = onStatusToggled;
+    }
+
+    /**
+     * Shows tasks as they are now, in the order the table is sorted in.
+     * The number of rows is read on a background thread, which also sorts the tasks
+     * if no sorted view has that order and tasks or the order changed since it last did.
+     * Rows on screen are then read again.
+     */
+    public void refreshTasks() {
+        if (items == null) {
+            return;
+        }
+        String order = describeOrder();
+        SortOrder sortOrder = getSortOrderIfSingle();
+        boolean isDescending = !getSortOrder().isEmpty()
+                && getSortOrder().get(0).getSortType() == TableColumn.SortType.DESCENDING;
+        Comparator<Task> comparator = getComparator();
+        rowsExecutor.execute(() -> {
+            if (sortOrder != null || comparator == null) {
+                int size = duke.readTasks(TaskList::getSize);
+                Platform.runLater(() -> showRows(size, sortOrder, isDescending, null));
+            } else {
+                Task[] rows = sortRows(order, comparator);
+                Platform.runLater(() -> showRows(rows.length, null, false, rows));
+            }
+        });
+    }
+
+    private void showRows(int size, SortOrder sortOrder, boolean isDescending, Task[] rows) {
+        items.setRows(size, sortOrder, isDescending, rows);
+        refresh();
+    }
+
+    private <T> TableColumn<Task, T> addColumn(String title, Function<Task, T> getValue,
+            Comparator<Task> comparator, double width) {
+        TableColumn<Task, T> column = new TableColumn<>(title);
+        column.setCellValueFactory(features -> new ReadOnlyObjectWrapper<>(
+                features.getValue() == null ? null : getValue.apply(features.getValue())));
+        column.setPrefWidth(width);
+        comparators.put(column, comparator);
+        getColumns().add(column);
+        return column;
+    }
+
+    /**
+     * Returns tasks sorted by comparator, sorting them again only if tasks
+     * or the order changed since they were last sorted. Runs on the rowsExecutor thread.
+     */
+    private Task[] sortRows(String order, Comparator<Task> comparator) {
+        Task[] rows = duke.readTasks(tasks -> {
+            if (tasks.getModCount() == rowsModCount && order.equals(rowsOrder)) {
+                return null;
+            }
+            rowsModCount = tasks.getModCount();
+            rowsOrder = order;
+            return tasks.getTasks().toArray(new Task[0]);
+        });
+        if (rows != null) {
+            Arrays.sort(rows, comparator);
+            sortedRows = rows;
+        }
+        return sortedRows;
+    }
+
+    /**
+     * Returns the SortOrder of the column the table is sorted by,
+     * or null if it is sorted by several columns or one without a SortOrder.
+     */
+    private SortOrder getSortOrderIfSingle() {
+        return getSortOrder().size() == 1 ? sortOrders.get(getSortOrder().get(0)) : null;
+    }
+
+    private String describeOrder() {
+        StringBuilder order = new StringBuilder();
+        for (TableColumn<Task, ?> column : getSortOrder()) {
+            order.append(column.getText()).append(" ").append(column.getSortType()).append(";");
+        }
+        return order.toString();
+    }
+
+    private Comparator<Task> getComparator() {
+        Comparator<Task> comparator = null;
+        for (TableColumn<Task, ?> column : getSortOrder()) {
+            Comparator<Task> columnComparator = comparators.get(column);
+            if (column.getSortType() == TableColumn.SortType.DESCENDING) {
+                columnComparator = columnComparator.reversed();
+            }
+            comparator = comparator == null ? columnComparator : comparator.thenComparing(columnComparator);
+        }
+        return comparator;
+    }
+
+    /**
+     * Check box showing whether a task is done.
+     * It is reset on a click, and ticked or unticked only once the
+     * task is marked or unmarked and the table refreshed.
+     */
+    private class StatusCell extends TableCell<Task, Task> {
+        private final CheckBox checkBox = new CheckBox();
+
+        private StatusCell() {
+            checkBox.setOnAction(event -> {
+                Task task = getItem();
+                if (task != null) {
+                    checkBox.setSelected(task.isDone());
+                    onStatusToggled.accept(task);
+                }
+            });
+        }
+
+        @Override
+        protected void updateItem(Task task, boolean isEmpty) {
+            super.updateItem(task, isEmpty);
+            if (isEmpty || task == null) {
+                setGraphic(null);
+            } else {
+                checkBox.setSelected(task.isDone());
+                setGraphic(checkBox);
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package duke;
+
+import java.util.Collections;
+
+import exceptions.DukeException;
+import javafx.collections.ObservableListBase;
+import task.Task;
+import tasklist.SortOrder;
+import tasklist.TaskList;
+
+/**
+ * Tasks of a Duke as the items of a TaskTable, read from its TaskList
+ * only when the table shows them, so no row is copied however many tasks there are.
+ * Rows in list order, or in a SortOrder, are read by position from the list
+ * or its sorted view; rows in any other order come from an array sorted off the FX thread.
+ * A row is read without waiting for Duke's lock: while a command changes
+ * the tasks it is shown empty, until the table is refreshed after the command.
+ * Used on the FX thread only.
+ */
+class TaskTableItems extends ObservableListBase<Task> {
+    private final Duke duke;
+    private int size = 0;
+    private SortOrder sortOrder;
+    private boolean isDescending;
+    private Task[] sortedRows;
+
+    TaskTableItems(Duke duke) {
+        this.duke = duke;
+    }
+
+    @Override
+    public Task get(int index) {
+        if (sortedRows != null) {
+            return sortedRows[index];
+        }
+        return duke.tryReadTasks(tasks -> getTask(tasks, index), null);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the task in row index, or null if the list is now too short to have that row.
+     */
+    private Task getTask(TaskList tasks, int index) {
+        if (sortOrder != null) {
+            int position = isDescending ? tasks.getSize() - 1 - index : index;
+            return tasks.getSortedTask(sortOrder, position);
+        }
+        try {
+            return tasks.getTask(index + 1);
+        } catch (DukeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Shows newSize rows, read from the list in newSortOrder, reversed if newIsDescending,
+     * or from newSortedRows if that is not null, in which case newSortOrder must be null.
+     * Only tells the table of rows added or removed at the end; rows already on screen
+     * are read again when the table is refreshed. newSortedRows must not be changed afterwards.
+     */
+    void setRows(int newSize, SortOrder newSortOrder, boolean newIsDescending, Task[] newSortedRows) {
+        assert newSortedRows == null || (newSortOrder == null && newSortedRows.length == newSize);
+        int oldSize = size;
+        size = newSize;
+        sortOrder = newSortOrder;
+        isDescending = newIsDescending;
+        sortedRows = newSortedRows;
+        if (newSize == oldSize) {
+            return;
+        }
+        beginChange();
+        if (newSize > oldSize) {
+            nextAdd(oldSize, newSize);
+        } else {
+            // Rows removed are no longer held, so are reported as null
+            nextRemove(newSize, Collections.<Task>nCopies(oldSize - newSize, null));
+        }
+        endChange();
+    }
+}
@@ -0,0 +1,140 @@
+package reminder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import task.Task;
+import tasklist.TaskListListener;
+import utility.TodayClock;
+
+/**
+ * Sends a reminder on the day every open Deadline or Event is due,
+ * and on every day a RecurringTask happens.
+ * Reminders are kept in a timer wheel with one bucket per day,
+ * so scheduling, cancelling and firing a day's reminders never
+ * scans the whole TaskList. Buckets are kept up to date by
+ * listening to the TaskList.
+ */
+public class ReminderScheduler implements TaskListListener {
+    private static final int MAX_TASKS_PER_NOTICE = 10;
+
+    private final Map<Long, Set<Task>> buckets = new HashMap<>();
+    private final Map<Task, Long> scheduledDays = new IdentityHashMap<>();
+    private final TodayClock today;
+    private final Consumer<String> noticeHandler;
+    private long lastFiredDay;
+
+    /**
+     * Constructor.
+     * Reminders for today are sent by the first call to fireDueReminders().
+     *
+     * @param today Tells which day reminders are due up to.
+     * @param noticeHandler Receives the text of every reminder.
+     */
+    public ReminderScheduler(TodayClock today, Consumer<String> noticeHandler) {
+        this.today = today;
+        this.noticeHandler = noticeHandler;
+        this.lastFiredDay = today.getEpochDay() - 1;
+    }
+
+    @Override
+    public synchronized void taskAdded(Task task) {
+        schedule(task);
+    }
+
+    @Override
+    public synchronized void taskRemoved(Task task) {
+        cancel(task);
+    }
+
+    @Override
+    public synchronized void taskChanged(Task task) {
+        cancel(task);
+        schedule(task);
+    }
+
+    /**
+     * Sends reminders for every day up to and including today
+     * that has not had its reminders sent yet.
+     */
+    public void fireDueReminders() {
+        long todayEpochDay = today.getEpochDay();
+        List<Task> dueTasks = new ArrayList<>();
+        synchronized (this) {
+            for (long day = lastFiredDay + 1; day <= todayEpochDay; day++) {
+                Set<Task> bucket = buckets.remove(day);
+                lastFiredDay = day;
+                if (bucket != null) {
+                    dueTasks.addAll(bucket);
+                    rescheduleAll(bucket);
+                }
+            }
+        }
+        if (!dueTasks.isEmpty()) {
+            noticeHandler.accept(makeNotice(dueTasks));
+        }
+    }
+
+    /**
+     * Returns number of reminders waiting to be sent.
+     *
+     * @return Number of scheduled reminders.
+     */
+    public synchronized int getSize() {
+        return scheduledDays.size();
+    }
+
+    /**
+     * Moves tasks whose reminder was just sent to their next date, if any.
+     */
+    private void rescheduleAll(Set<Task> tasks) {
+        for (Task task : tasks) {
+            scheduledDays.remove(task);
+            schedule(task);
+        }
+    }
+
+    private void schedule(Task task) {
+        if (task.isDone()) {
+            return;
+        }
+        LocalDate date = task.getNextDate(LocalDate.ofEpochDay(lastFiredDay + 1));
+        if (date == null) {
+            return;
+        }
+        long day = date.toEpochDay();
+        buckets.computeIfAbsent(day, d -> Collections.newSetFromMap(new IdentityHashMap<>())).add(task);
+        scheduledDays.put(task, day);
+    }
+
+    private void cancel(Task task) {
+        Long day = scheduledDays.remove(task);
+        if (day == null) {
+            return;
+        }
+        Set<Task> bucket = buckets.get(day);
+        bucket.remove(task);
+        if (bucket.isEmpty()) {
+            buckets.remove(day);
+        }
+    }
+
+    private static String makeNotice(List<Task> dueTasks) {
+        StringBuilder notice = new StringBuilder("Reminder for today:");
+        int shown = Math.min(dueTasks.size(), MAX_TASKS_PER_NOTICE);
+        for (int i = 0; i < shown; i++) {
+            notice.append("\n").append(dueTasks.get(i));
+        }
+        if (dueTasks.size() > shown) {
+            notice.append("\n...and ").append(dueTasks.size() - shown).append(" more");
+        }
+        return notice.toString();
+    }
+}
@@ -0,0 +1,204 @@
+package server;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import duke.Duke;
+import exceptions.DukeException;
+import ui.Response;
+
+/**
+ * Local HTTP server exposing Duke through JSON endpoints.
+ * Every endpoint is turned into the equivalent user input
+ * and handled by Duke.respond(), so it behaves exactly like
+ * typing the command.
+ *
+ * <p>Endpoints:
+ * GET /list, GET /find?keyword=, POST /add?type=todo|event|deadline&amp;description=&amp;date=,
+ * POST /mark?index=, POST /delete?index=
+ */
+public class DukeHttpServer {
+    private static final int NO_OF_THREADS = Runtime.getRuntime().availableProcessors() * 2;
+    private static final int OK = 200;
+    private static final int BAD_REQUEST = 400;
+    private static final int METHOD_NOT_ALLOWED = 405;
+    private static final int INTERNAL_SERVER_ERROR = 500;
+
+    private final Duke duke;
+    private final HttpServer httpServer;
+    private final ExecutorService executor;
+
+    /**
+     * Functional interface converting request parameters to user input.
+     */
+    private interface InputBuilder {
+        String build(Map<String, String> parameters) throws DukeException;
+    }
+
+    /**
+     * Constructor. Binds to the loopback address only.
+     *
+     * @param duke Duke instance shared by all requests.
+     * @param port Port to listen on, or 0 to pick any free port.
+     * @throws IOException When port cannot be bound.
+     */
+    public DukeHttpServer(Duke duke, int port) throws IOException {
+        this.duke = duke;
+        this.httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.executor = Executors.newFixedThreadPool(NO_OF_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "duke-http");
+            thread.setDaemon(true);
+            return thread;
+        });
+        httpServer.setExecutor(executor);
+        addEndpoint("/list", "GET", parameters -> "list");
+        addEndpoint("/find", "GET", parameters -> "find " + getParameter(parameters, "keyword"));
+        addEndpoint("/add", "POST", DukeHttpServer::buildAddInput);
+        addEndpoint("/mark", "POST", parameters -> "mark " + getParameter(parameters, "index"));
+        addEndpoint("/delete", "POST", parameters -> "delete " + getParameter(parameters, "index"));
+    }
+
+    public void start() {
+        httpServer.start();
+    }
+
+    /**
+     * Stops accepting requests and releases server threads.
+     */
+    public void stop() {
+        httpServer.stop(0);
+        executor.shutdown();
+    }
+
+    public int getPort() {
+        return httpServer.getAddress().getPort();
+    }
+
+    private void addEndpoint(String path, String method, InputBuilder inputBuilder) {
+        httpServer.createContext(path, exchange -> {
+            try {
+                handle(exchange, method, inputBuilder);
+            } finally {
+                exchange.close();
+            }
+        });
+    }
+
+    private void handle(HttpExchange exchange, String method, InputBuilder inputBuilder) throws IOException {
+        if (!exchange.getRequestMethod().equalsIgnoreCase(method)) {
+            sendJson(exchange, METHOD_NOT_ALLOWED, new Response("Use " + method, true));
+            return;
+        }
+        try {
+            String input = inputBuilder.build(parseQuery(exchange.getRequestURI().getRawQuery()));
+            Response response = duke.respond(input);
+            sendJson(exchange, response.isError() ? BAD_REQUEST : OK, response);
+        } catch (DukeException e) {
+            sendJson(exchange, BAD_REQUEST, new Response(e.getMessage(), true));
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+            sendJson(exchange, INTERNAL_SERVER_ERROR, new Response("Something went wrong: " + e, true));
+        }
+    }
+
+    private static String buildAddInput(Map<String, String> parameters) throws DukeException {
+        String type = getParameter(parameters, "type");
+        String description = getParameter(parameters, "description");
+        switch (type) {
+        case "todo":
+            return "todo " + description;
+        case "event":
+        case "deadline":
+            return type + " " + description + " " + getParameter(parameters, "date");
+        default:
+            throw new DukeException("type must be todo, event or deadline");
+        }
+    }
+
+    /**
+     * Returns value of the named parameter.
+     * Values may not contain ";", so one request can never
+     * turn into several chained commands.
+     */
+    private static String getParameter(Map<String, String> parameters, String name) throws DukeException {
+        String value = parameters.get(name);
+        if (value == null || value.isBlank()) {
+            throw new DukeException("Missing parameter " + name);
+        }
+        if (value.contains(";")) {
+            throw new DukeException("Parameter " + name + " may not contain ;");
+        }
+        return value;
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int equalsIndex = pair.indexOf('=');
+            if (equalsIndex > 0) {
+                String name = URLDecoder.decode(pair.substring(0, equalsIndex), StandardCharsets.UTF_8);
+                String value = URLDecoder.decode(pair.substring(equalsIndex + 1), StandardCharsets.UTF_8);
+                parameters.put(name, value);
+            }
+        }
+        return parameters;
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, Response response) throws IOException {
+        String json = "{\"error\":" + response.isError()
+                + ",\"response\":" + toJsonString(response.getMessage()) + "}";
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static String toJsonString(String s) {
+        if (s == null) {
+            return "null";
+        }
+        StringBuilder json = new StringBuilder(s.length() + 2).append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+            case '"':
+                json.append("\\\"");
+                break;
+            case '\\':
+                json.append("\\\\");
+                break;
+            case '\n':
+                json.append("\\n");
+                break;
+            case '\r':
+                json.append("\\r");
+                break;
+            case '\t':
+                json.append("\\t");
+                break;
+            default:
+                if (c < 0x20) {
+                    json.append(String.format("\\u%04x", (int) c));
+                } else {
+                    json.append(c);
+                }
+            }
+        }
+        return json.append('"').toString();
+    }
+}
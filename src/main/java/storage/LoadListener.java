@@ -0,0 +1,19 @@
+package storage;
+
+import java.util.List;
+
+import task.Task;
+
+/**
+ * Receives tasks read from disk storage a batch at a time,
+ * so that they can be used before the whole file is read.
+ */
+public interface LoadListener {
+    /**
+     * Called once per batch, in file order, on the thread doing the loading.
+     *
+     * @param tasks Tasks read since the last batch.
+     * @param percentLoaded Estimated share of the file read so far, from 0 to 100.
+     */
+    void tasksLoaded(List<Task> tasks, int percentLoaded);
+}
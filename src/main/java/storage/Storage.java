@@ -3,6 +3,7 @@ package storage;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.function.BooleanSupplier;
 
 import exceptions.DukeException;
 import tasklist.TaskList;
@@ -18,6 +19,8 @@ public class Storage {
     private Path path;
     private final StorageReader storageReader;
     private final StorageWriter storageWriter;
+    private boolean isInTransaction = false;
+    private long nanosSpentWriting = 0;
 
     /**
      * Constructor.
@@ -104,21 +107,85 @@ public class Storage {
         }
     }
 
+    public Path getFilePath() {
+        return path;
+    }
+
+    /**
+     * Starts deferring all line operations.
+     * Until endTransaction() is called, line operations report success
+     * without touching the disk, and the caller is expected to persist
+     * the final state with isTaskListRewritten().
+     */
+    public void beginTransaction() {
+        isInTransaction = true;
+    }
+
+    /**
+     * Stops deferring line operations.
+     */
+    public void endTransaction() {
+        isInTransaction = false;
+    }
+
+    /**
+     * Replaces the storage file with the contents of taskList
+     * as one atomic write.
+     *
+     * @param taskList TaskList whose tasks are to be stored.
+     * @return true if file replaced successfully.
+     */
+    public boolean isTaskListRewritten(TaskList taskList) {
+        return isWritten(() -> storageWriter.rewriteAllLines(taskList.getStorageLines()));
+    }
+
+    /**
+     * Returns total time spent writing the storage file so far.
+     * Callers can find the time taken by one command from the difference
+     * before and after it runs.
+     *
+     * @return Time spent writing in nanoseconds.
+     */
+    public long getNanosSpentWriting() {
+        return nanosSpentWriting;
+    }
+
+    private boolean isWritten(BooleanSupplier write) {
+        long start = System.nanoTime();
+        try {
+            return write.getAsBoolean();
+        } finally {
+            nanosSpentWriting += System.nanoTime() - start;
+        }
+    }
+
     //Define all StorageWriter methods
     public boolean isLineAppended(String s) {
-        return storageWriter.appendLine(s);
+        return isInTransaction || isWritten(() -> storageWriter.appendLine(s));
+    }
+
+    public boolean isLineAppended(byte[] bytes) {
+        return isInTransaction || isWritten(() -> storageWriter.appendLine(bytes));
     }
 
     public boolean isLineDeleted(int index) {
-        return storageWriter.deleteLine(index);
+        return isInTransaction || isWritten(() -> storageWriter.deleteLine(index));
     }
 
     public boolean isLineChanged(int index, String newString) {
-        return storageWriter.changeLine(index, newString);
+        return isInTransaction || isWritten(() -> storageWriter.changeLine(index, newString));
+    }
+
+    public boolean isLineChanged(int index, byte[] newBytes) {
+        return isInTransaction || isWritten(() -> storageWriter.changeLine(index, newBytes));
     }
 
     //Define all StorageReader methods
     public TaskList syncArrayList() throws DukeException {
         return storageReader.syncArrayList();
     }
+
+    public void loadInBatches(int batchSize, LoadListener listener) throws DukeException {
+        storageReader.loadInBatches(batchSize, listener);
+    }
 }
@@ -0,0 +1,88 @@
+package storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for one read or write of the storage file.
+ * The file size is only looked up when the event is recorded, so while
+ * no recording is running, begin(), end() and shouldCommit() cost next to nothing.
+ */
+@Name("duke.StorageOperation")
+@Label("Storage Operation")
+@Category("Duke")
+@Description("Read or write of the storage file")
+@StackTrace(false)
+class StorageEvent extends Event {
+    @Label("Operation")
+    private String operation;
+
+    @Label("Path")
+    private String path;
+
+    @Label("Bytes Read")
+    @DataAmount
+    private long bytesRead;
+
+    @Label("Bytes Written")
+    @DataAmount
+    private long bytesWritten;
+
+    @Label("File Size")
+    @Description("Size of the file after the operation")
+    @DataAmount
+    private long fileSize;
+
+    @Label("Succeeded")
+    private boolean isSucceeded;
+
+    /**
+     * Creates and begins an event for operation.
+     *
+     * @param operation Name of the operation, such as deleteLine.
+     */
+    StorageEvent(String operation) {
+        this.operation = operation;
+        begin();
+    }
+
+    /**
+     * Ends the event and commits it if it is being recorded.
+     *
+     * @param file Storage file operated on.
+     * @param bytesRead Number of bytes read from file.
+     * @param bytesWritten Number of bytes written to file.
+     * @param isSucceeded Whether the operation succeeded.
+     */
+    void finish(Path file, long bytesRead, long bytesWritten, boolean isSucceeded) {
+        end();
+        if (shouldCommit()) {
+            this.path = file.toString();
+            this.bytesRead = bytesRead;
+            this.bytesWritten = bytesWritten;
+            this.fileSize = sizeOf(file);
+            this.isSucceeded = isSucceeded;
+            commit();
+        }
+    }
+
+    /**
+     * Returns size of file in bytes, or -1 if it cannot be read.
+     */
+    static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+}
@@ -1,16 +1,22 @@
 package storage;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Stream;
 
 import exceptions.DukeException;
+import task.Task;
 import tasklist.TaskList;
 import utility.StorageParser;
 
 /**
  * Encapsulates all read operations on disk file storage.
+ * Every public operation is recorded as a StorageEvent by flight recordings.
  */
 public class StorageReader {
     private Path path;
@@ -36,15 +42,70 @@ public class StorageReader {
      * @throws DukeException when fileLineToTask() fails.
      */
     public TaskList syncArrayList() throws DukeException {
+        StorageEvent event = new StorageEvent("syncArrayList");
+        boolean isRead = false;
         try {
             TaskList userInputHistory = new TaskList();
             loadAllLinesToHistory(userInputHistory);
+            isRead = true;
             return userInputHistory;
         } catch (IOException e) {
             throw new DukeException("Error reading file");
+        } finally {
+            finishReading(event, isRead);
         }
     }
 
+    /**
+     * Reads all tasks on disk in batches of batchSize, passing each
+     * batch to listener as soon as it is parsed.
+     * Progress is estimated from the number of characters read,
+     * so it is exact for files that are plain ASCII.
+     *
+     * @param batchSize Maximum number of tasks per batch.
+     * @param listener Receives every batch with the progress so far.
+     * @throws DukeException when file cannot be read.
+     */
+    public void loadInBatches(int batchSize, LoadListener listener) throws DukeException {
+        StorageEvent event = new StorageEvent("loadInBatches");
+        boolean isRead = false;
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            long fileSize = Math.max(Files.size(path), 1);
+            long charsRead = 0;
+            List<Task> batch = new ArrayList<>(batchSize);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                charsRead += line.length() + 1;
+                Task task = isNotEmpty(line) ? StorageParser.fileLineToTask(line) : null;
+                if (task != null) {
+                    batch.add(task);
+                }
+                if (batch.size() == batchSize) {
+                    listener.tasksLoaded(batch, getPercentLoaded(charsRead, fileSize));
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            listener.tasksLoaded(batch, 100);
+            isRead = true;
+        } catch (IOException e) {
+            throw new DukeException("Error reading file");
+        } finally {
+            finishReading(event, isRead);
+        }
+    }
+
+    /**
+     * Finishes event for an operation that read the whole file if isRead.
+     */
+    private void finishReading(StorageEvent event, boolean isRead) {
+        long bytesRead = isRead && event.isEnabled() ? StorageEvent.sizeOf(path) : 0;
+        event.finish(path, bytesRead, 0, isRead);
+    }
+
+    private static int getPercentLoaded(long charsRead, long fileSize) {
+        return (int) Math.min(charsRead * 100 / fileSize, 99);
+    }
+
     private void addTaskToHistory(String currTask, TaskList history) {
         history.addTask(StorageParser.fileLineToTask(currTask));
     }
@@ -3,12 +3,15 @@ package storage;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.util.List;
 
 /**
  * Encapsulates all write operations to disk file storage.
+ * Every public operation is recorded as a StorageEvent by flight recordings.
  */
 public class StorageWriter {
     private Path path;
@@ -24,8 +27,25 @@ public class StorageWriter {
      * @return true if appended successfully.
      */
     public boolean appendLine(String s) {
+        return appendLine(s.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Appends already encoded line to file and returns true if operation completed successfully.
+     *
+     * @param bytes UTF-8 encoded line to be appended.
+     * @return true if appended successfully.
+     */
+    public boolean appendLine(byte[] bytes) {
+        StorageEvent event = new StorageEvent("appendLine");
+        boolean isAppended = append(bytes);
+        event.finish(path, 0, isAppended ? bytes.length : 0, isAppended);
+        return isAppended;
+    }
+
+    private boolean append(byte[] bytes) {
         try {
-            Files.write(path, s.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+            Files.write(path, bytes, StandardOpenOption.APPEND);
             return true;
         } catch (IOException e) {
             System.out.println("IOException: " + e);
@@ -41,15 +61,20 @@ public class StorageWriter {
      * @return true if line deleted successfully.
      */
     public boolean deleteLine(int index) {
+        StorageEvent event = new StorageEvent("deleteLine");
+        long bytesRead = event.isEnabled() ? StorageEvent.sizeOf(path) : 0;
+        boolean isDeleted = false;
         try {
             List<String> history = Files.readAllLines(path);
             emptyFile(path);
             writeNewHistoryToFile(history, index);
-            return true;
+            isDeleted = true;
         } catch (IOException e) {
             System.out.println("IOException: " + e);
         }
-        return false;
+        long bytesWritten = event.isEnabled() ? StorageEvent.sizeOf(path) : 0;
+        event.finish(path, bytesRead, bytesWritten, isDeleted);
+        return isDeleted;
     }
 
     private void writeNewHistoryToFile(List<String> history, int index) {
@@ -71,7 +96,7 @@ public class StorageWriter {
     }
 
     private void writeToFile(String text) {
-        appendLine(text);
+        append(text.getBytes(StandardCharsets.UTF_8));
     }
 
     private String addNewlineCharacter(String line) {
@@ -96,4 +121,54 @@ public class StorageWriter {
         return deleteLine(index) & appendLine(newString);
     }
 
+    /**
+     * Changes line at index (index - 1) in storage file to an already encoded line.
+     *
+     * @param index line to be changed.
+     * @param newBytes UTF-8 encoded line to be added instead.
+     * @return true if changed successfully.
+     */
+    public boolean changeLine(int index, byte[] newBytes) {
+        return deleteLine(index) & appendLine(newBytes);
+    }
+
+    /**
+     * Replaces the whole file with the given lines in a single atomic step, by:
+     * 1. writing all lines to a temporary file next to the storage file,
+     * 2. moving the temporary file over the storage file.
+     * Readers see either the old file or the new one, never a mix.
+     *
+     * @param lines lines to be stored, without trailing newline characters.
+     * @return true if file replaced successfully.
+     */
+    public boolean rewriteAllLines(List<String> lines) {
+        StorageEvent event = new StorageEvent("rewriteAllLines");
+        Path tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+        long bytesWritten = 0;
+        boolean isRewritten = false;
+        try {
+            StringBuilder contents = new StringBuilder();
+            for (String line : lines) {
+                contents.append(line).append("\n");
+            }
+            byte[] bytes = contents.toString().getBytes(StandardCharsets.UTF_8);
+            Files.write(tempPath, bytes);
+            bytesWritten = bytes.length;
+            moveAtomically(tempPath, path);
+            isRewritten = true;
+        } catch (IOException e) {
+            System.out.println("IOException: " + e);
+        }
+        event.finish(path, 0, bytesWritten, isRewritten);
+        return isRewritten;
+    }
+
+    private void moveAtomically(Path from, Path to) throws IOException {
+        try {
+            Files.move(from, to, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(from, to, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
 }
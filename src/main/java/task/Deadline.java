@@ -6,6 +6,7 @@ import java.time.LocalDate;
  */
 public class Deadline extends Task {
     private LocalDate date;
+    private final long epochDay;
 
     /**
      * Constructor.
@@ -15,11 +16,27 @@ public class Deadline extends Task {
      */
     public Deadline(String description, LocalDate by) {
         super(description);
+        assert by != null;
         this.date = by;
+        this.epochDay = by.toEpochDay();
     }
 
     @Override
-    public String toString() {
+    public LocalDate getDate() {
+        return this.date;
+    }
+
+    @Override
+    public Deadline copy() {
+        Deadline copy = new Deadline(this.description, this.date);
+        copy.isDone = this.isDone;
+        copy.tags = this.tags;
+        copy.completionDate = this.completionDate;
+        return copy;
+    }
+
+    @Override
+    protected String formatLine() {
         String status;
         if (this.isDone) {
             status = String.format("[D][1] %s (by: %s)", this.description, date);
@@ -32,11 +49,12 @@ public class Deadline extends Task {
     /**
      * Check if deadline is today.
      *
+     * @param today Today's date.
      * @return true if deadline is today.
      */
     @Override
-    public boolean isToday() {
-        return date.isEqual(LocalDate.now());
+    public boolean isToday(LocalDate today) {
+        return epochDay == today.toEpochDay();
     }
 
 
@@ -46,7 +64,7 @@ public class Deadline extends Task {
      * @return string representing formatted description.
      */
     @Override
-    public String longDescription() {
+    protected String formatLongDescription() {
         String status;
         String done = this.isDone ? "was completed at" : "is to be completed by";
         status = String.format("Deadline %s %s %s %d %s %d",
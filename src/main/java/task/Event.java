@@ -1,11 +1,17 @@
 package task;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
- * Event class has a date field.
+ * Event class has a date field, and an end date
+ * for events that span several days.
  */
 public class Event extends Task {
     private LocalDate date;
+    private final LocalDate endDate;
+    private final long epochDay;
+    private final long endEpochDay;
 
     /**
      * Constructor.
@@ -14,30 +20,101 @@ public class Event extends Task {
      * @param date Date associated with the Event.
      */
     public Event(String description, LocalDate date) {
+        this(description, date, date);
+    }
+
+    /**
+     * Constructor for events that span several days.
+     *
+     * @param description Description of the Event.
+     * @param date First day of the Event.
+     * @param endDate Last day of the Event.
+     */
+    public Event(String description, LocalDate date, LocalDate endDate) {
         super(description);
         assert date != null;
+        assert endDate != null && !endDate.isBefore(date);
         this.date = date;
+        this.endDate = endDate;
+        this.epochDay = date.toEpochDay();
+        this.endEpochDay = endDate.toEpochDay();
     }
 
     @Override
-    public String toString() {
+    public LocalDate getDate() {
+        return this.date;
+    }
+
+    public LocalDate getEndDate() {
+        return this.endDate;
+    }
+
+    /**
+     * Returns true if the Event lasts more than one day.
+     *
+     * @return true if end date differs from start date.
+     */
+    public boolean isMultiDay() {
+        return endEpochDay != epochDay;
+    }
+
+    /**
+     * Returns onOrAfter if the Event is on that day, or else its first day
+     * if that is later.
+     *
+     * @param onOrAfter Earliest date to consider.
+     * @return Next day of the Event, or null if it is over.
+     */
+    @Override
+    public LocalDate getNextDate(LocalDate onOrAfter) {
+        if (onOrAfter.isAfter(endDate)) {
+            return null;
+        }
+        return onOrAfter.isBefore(date) ? date : onOrAfter;
+    }
+
+    @Override
+    public List<LocalDate> getDatesBetween(LocalDate from, LocalDate to) {
+        List<LocalDate> dates = new ArrayList<>();
+        LocalDate day = getNextDate(from);
+        while (day != null && !day.isAfter(to) && !day.isAfter(endDate)) {
+            dates.add(day);
+            day = day.plusDays(1);
+        }
+        return dates;
+    }
+
+    @Override
+    public Event copy() {
+        Event copy = new Event(this.description, this.date, this.endDate);
+        copy.isDone = this.isDone;
+        copy.tags = this.tags;
+        copy.completionDate = this.completionDate;
+        return copy;
+    }
+
+    @Override
+    protected String formatLine() {
         String status;
+        String dates = isMultiDay() ? date + " to: " + endDate : date.toString();
         if (this.isDone) {
-            status = String.format("[E][1] %s (at: %s)", this.description, date);
+            status = String.format("[E][1] %s (at: %s)", this.description, dates);
         } else {
-            status = String.format("[E][ ] %s (at: %s)", this.description, date);
+            status = String.format("[E][ ] %s (at: %s)", this.description, dates);
         }
         return status;
     }
 
     /**
-     * Check if deadline is today.
+     * Check if event is on today.
      *
-     * @return true if deadline is today.
+     * @param today Today's date.
+     * @return true if today is one of the days of the event.
      */
     @Override
-    public boolean isToday() {
-        return date.isEqual(LocalDate.now());
+    public boolean isToday(LocalDate today) {
+        long todayEpochDay = today.toEpochDay();
+        return epochDay <= todayEpochDay && todayEpochDay <= endEpochDay;
     }
 
     /**
@@ -46,13 +123,17 @@ public class Event extends Task {
      * @return string representing formatted description.
      */
     @Override
-    public String longDescription() {
+    protected String formatLongDescription() {
         String status;
         String done = this.isDone ? "was at" : "is going to be on";
         status = String.format("Event %s %s %s %d %s %d",
                 this.description, done, this.date.getDayOfWeek(),
                 this.date.getDayOfMonth() , this.date.getMonth(),
                 this.date.getYear());
+        if (isMultiDay()) {
+            status += String.format(" until %s %d %s %d", this.endDate.getDayOfWeek(),
+                    this.endDate.getDayOfMonth(), this.endDate.getMonth(), this.endDate.getYear());
+        }
         return status;
     }
 }
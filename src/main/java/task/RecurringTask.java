@@ -0,0 +1,160 @@
+package task;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RecurringTask happens repeatedly, following a rule
+ * made of a frequency, a start date and an optional end date.
+ * Only the rule is stored; occurrences are worked out
+ * when asked for.
+ */
+public class RecurringTask extends Task {
+    private static final int DAYS_PER_WEEK = 7;
+
+    /**
+     * How often a RecurringTask happens.
+     */
+    public enum Frequency {
+        DAILY, WEEKLY, MONTHLY
+    }
+
+    private final Frequency frequency;
+    private final LocalDate start;
+    private final LocalDate until;
+
+    /**
+     * Constructor.
+     *
+     * @param description Description of the RecurringTask.
+     * @param frequency How often it happens.
+     * @param start Date of the first occurrence.
+     * @param until Last date it may happen on, or null if it never ends.
+     */
+    public RecurringTask(String description, Frequency frequency, LocalDate start, LocalDate until) {
+        super(description);
+        assert frequency != null && start != null;
+        assert until == null || !until.isBefore(start);
+        this.frequency = frequency;
+        this.start = start;
+        this.until = until;
+    }
+
+    /**
+     * Returns true if one of the occurrences is on date.
+     *
+     * @param date Date to check.
+     * @return true if the task happens on date.
+     */
+    public boolean occursOn(LocalDate date) {
+        if (date.isBefore(start) || (until != null && date.isAfter(until))) {
+            return false;
+        }
+        switch (frequency) {
+        case WEEKLY:
+            return (date.toEpochDay() - start.toEpochDay()) % DAYS_PER_WEEK == 0;
+        case MONTHLY:
+            return start.plusMonths(getMonthsFromStart(date)).isEqual(date);
+        default:
+            return true;
+        }
+    }
+
+    @Override
+    public boolean isToday(LocalDate today) {
+        return occursOn(today);
+    }
+
+    /**
+     * Returns date of the first occurrence.
+     *
+     * @return Start date.
+     */
+    @Override
+    public LocalDate getDate() {
+        return start;
+    }
+
+    @Override
+    public LocalDate getNextDate(LocalDate onOrAfter) {
+        if (onOrAfter.isBefore(start)) {
+            return start;
+        }
+        LocalDate next;
+        switch (frequency) {
+        case WEEKLY:
+            long daysFromStart = onOrAfter.toEpochDay() - start.toEpochDay();
+            long weeks = (daysFromStart + DAYS_PER_WEEK - 1) / DAYS_PER_WEEK;
+            next = start.plusWeeks(weeks);
+            break;
+        case MONTHLY:
+            long months = getMonthsFromStart(onOrAfter);
+            next = start.plusMonths(months);
+            if (next.isBefore(onOrAfter)) {
+                next = start.plusMonths(months + 1);
+            }
+            break;
+        default:
+            next = onOrAfter;
+        }
+        return (until != null && next.isAfter(until)) ? null : next;
+    }
+
+    @Override
+    public List<LocalDate> getDatesBetween(LocalDate from, LocalDate to) {
+        List<LocalDate> dates = new ArrayList<>();
+        LocalDate date = getNextDate(from);
+        while (date != null && !date.isAfter(to)) {
+            dates.add(date);
+            date = getNextDate(date.plusDays(1));
+        }
+        return dates;
+    }
+
+    public Frequency getFrequency() {
+        return frequency;
+    }
+
+    public LocalDate getUntil() {
+        return until;
+    }
+
+    private long getMonthsFromStart(LocalDate date) {
+        return ChronoUnit.MONTHS.between(start.withDayOfMonth(1), date.withDayOfMonth(1));
+    }
+
+    @Override
+    public RecurringTask copy() {
+        RecurringTask copy = new RecurringTask(this.description, this.frequency, this.start, this.until);
+        copy.isDone = this.isDone;
+        copy.tags = this.tags;
+        copy.completionDate = this.completionDate;
+        return copy;
+    }
+
+    @Override
+    protected String formatLine() {
+        String mark = this.isDone ? "1" : " ";
+        String line = String.format("[R][%s] %s (every: %s from: %s", mark, this.description,
+                this.frequency.name().toLowerCase(), this.start);
+        if (this.until != null) {
+            line += " until: " + this.until;
+        }
+        return line + ")";
+    }
+
+    @Override
+    protected String formatLongDescription() {
+        String done = this.isDone ? "is completed" : "is not completed yet";
+        String status = String.format("Recurring task %s happens %s from %s %d %s %d",
+                this.description, this.frequency.name().toLowerCase(), this.start.getDayOfWeek(),
+                this.start.getDayOfMonth(), this.start.getMonth(), this.start.getYear());
+        if (this.until != null) {
+            status += String.format(" until %s %d %s %d", this.until.getDayOfWeek(),
+                    this.until.getDayOfMonth(), this.until.getMonth(), this.until.getYear());
+        }
+        return status + " and " + done;
+    }
+}
@@ -1,10 +1,28 @@
 package task;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+
 /**
  * Class to encapsulate Task object.
+ * Display, storage and long forms are formatted once and
+ * cached until the Task changes.
  */
 public class Task {
+    public static final String TAG_REGEX = "#[\\w-]+";
     protected String description;
     protected boolean isDone;
+    protected List<String> tags = List.of();
+    // kept in memory only, so null for tasks loaded as done
+    protected LocalDate completionDate;
+    private String line;
+    private String longDescription;
+    // volatile so that a cache filled in by one reader is fully visible to others
+    private volatile byte[] storageBytes;
 
     /**
      * Constructor.
@@ -18,12 +36,59 @@ public class Task {
     }
 
     /**
-     * String encapsulates Task description and isDone status.
+     * String encapsulates Task description, isDone status, completion date and tags.
+     * Used both for display and as the line stored on disk.
      *
      * @return String representing Task object
      */
     @Override
     public String toString() {
+        if (line == null) {
+            StringBuilder formatted = new StringBuilder(formatLine());
+            if (isDone && completionDate != null) {
+                formatted.append(" (done: ").append(completionDate).append(")");
+            }
+            for (String tag : tags) {
+                formatted.append(" #").append(tag);
+            }
+            line = formatted.toString();
+        }
+        return line;
+    }
+
+    /**
+     * Returns line to be stored on disk, encoded in UTF-8
+     * and terminated by a newline character.
+     *
+     * @return Bytes of the storage line.
+     */
+    public byte[] toStorageBytes() {
+        byte[] bytes = storageBytes;
+        if (bytes == null) {
+            bytes = (toString() + "\n").getBytes(StandardCharsets.UTF_8);
+            storageBytes = bytes;
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns long description of the Task.
+     *
+     * @return Long description of the Task.
+     */
+    public String longDescription() {
+        if (longDescription == null) {
+            longDescription = formatLongDescription();
+        }
+        return longDescription;
+    }
+
+    /**
+     * Formats the line returned by toString().
+     *
+     * @return String representing Task object
+     */
+    protected String formatLine() {
         String status;
         if (this.isDone) {
             status = String.format("[T][1] %s", this.description);
@@ -34,11 +99,11 @@ public class Task {
     }
 
     /**
-     * Returns long description of the Task.
+     * Formats the description returned by longDescription().
      *
      * @return Long description of the Task.
      */
-    public String longDescription() {
+    protected String formatLongDescription() {
         String status;
         if (this.isDone) {
             status = String.format("Task %s is completed", this.description);
@@ -49,22 +114,130 @@ public class Task {
     }
 
     /**
-     * Marks Task as done.
+     * Marks Task as done, completed on completionDate.
+     *
+     * @param completionDate Date the Task was completed, or null if not known.
      */
-    public void markAsDone() {
-        this.isDone = true;
-
+    public void markAsDone(LocalDate completionDate) {
+        if (!this.isDone) {
+            this.isDone = true;
+            this.completionDate = completionDate;
+            clearCachedForms();
+        }
     }
 
+    /**
+     * Marks Task as not done.
+     */
     public void markAsNotDone() {
-        this.isDone = false;
+        if (this.isDone) {
+            this.isDone = false;
+            this.completionDate = null;
+            clearCachedForms();
+        }
+    }
+
+    /**
+     * Clears cached forms of the Task.
+     * Must be called whenever a field shown in them changes.
+     */
+    protected void clearCachedForms() {
+        line = null;
+        longDescription = null;
+        storageBytes = null;
     }
 
-    public boolean isToday() {
+    /**
+     * Returns true if the Task is due or happens on today.
+     * Tasks without a date are always for today.
+     *
+     * @param today Today's date.
+     * @return true if the Task is for today.
+     */
+    public boolean isToday(LocalDate today) {
         return true;
     }
 
     public String getDescription() {
         return this.description;
     }
+
+    public boolean isDone() {
+        return this.isDone;
+    }
+
+    public LocalDate getCompletionDate() {
+        return this.completionDate;
+    }
+
+    public List<String> getTags() {
+        return this.tags;
+    }
+
+    /**
+     * Sets the tags of the Task, given with or without a leading #.
+     * Tags are kept in lower case, sorted and without repeats.
+     *
+     * @param tags Tags to set.
+     */
+    public void setTags(Collection<String> tags) {
+        TreeSet<String> normalisedTags = new TreeSet<>();
+        for (String tag : tags) {
+            normalisedTags.add((tag.startsWith("#") ? tag.substring(1) : tag).toLowerCase());
+        }
+        this.tags = List.copyOf(normalisedTags);
+        clearCachedForms();
+    }
+
+    /**
+     * Returns date the Task is due or happens on.
+     *
+     * @return null, as a plain Task has no date.
+     */
+    public LocalDate getDate() {
+        return null;
+    }
+
+    /**
+     * Returns the first date on or after onOrAfter that the Task
+     * is due or happens on.
+     *
+     * @param onOrAfter Earliest date to consider.
+     * @return Next date, or null if there is none.
+     */
+    public LocalDate getNextDate(LocalDate onOrAfter) {
+        LocalDate date = getDate();
+        return (date == null || date.isBefore(onOrAfter)) ? null : date;
+    }
+
+    /**
+     * Returns all dates from from to to (inclusive) that the Task
+     * is due or happens on, in order.
+     *
+     * @param from First date of the range.
+     * @param to Last date of the range.
+     * @return Dates within the range.
+     */
+    public List<LocalDate> getDatesBetween(LocalDate from, LocalDate to) {
+        List<LocalDate> dates = new ArrayList<>();
+        LocalDate date = getNextDate(from);
+        if (date != null && !date.isAfter(to)) {
+            dates.add(date);
+        }
+        return dates;
+    }
+
+    /**
+     * Returns an independent copy of the Task,
+     * so that changes can be staged without touching the original.
+     *
+     * @return Copy of the Task.
+     */
+    public Task copy() {
+        Task copy = new Task(this.description);
+        copy.isDone = this.isDone;
+        copy.tags = this.tags;
+        copy.completionDate = this.completionDate;
+        return copy;
+    }
 }
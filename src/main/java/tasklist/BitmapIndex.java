@@ -0,0 +1,232 @@
+package tasklist;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import task.Task;
+
+/**
+ * Index from each tag, type, done status and description trigram
+ * to the tasks that have it.
+ * Every task gets an id when added, in list order, and each key maps to a
+ * compressed bitmap of ids, so filters are answered with bitmap operations
+ * instead of a scan of the list.
+ * Trigrams are only collected once a text search first needs them.
+ */
+class BitmapIndex implements TaskListListener {
+    private static final int MIN_IDS_BEFORE_COMPACTING = 64;
+    private static final int TRIGRAM_LENGTH = 3;
+    private final Map<Task, Integer> ids = new IdentityHashMap<>();
+    private final ArrayList<Task> tasksById = new ArrayList<>();
+    private final Map<String, RoaringBitmap> tagBitmaps = new HashMap<>();
+    private final Map<Class<?>, RoaringBitmap> typeBitmaps = new HashMap<>();
+    private Map<String, RoaringBitmap> trigramBitmaps;
+    private RoaringBitmap allTasks = new RoaringBitmap();
+    private RoaringBitmap doneTasks = new RoaringBitmap();
+
+    @Override
+    public void taskAdded(Task task) {
+        int id = tasksById.size();
+        ids.put(task, id);
+        tasksById.add(task);
+        allTasks.add(id);
+        if (task.isDone()) {
+            doneTasks.add(id);
+        }
+        for (String tag : task.getTags()) {
+            tagBitmaps.computeIfAbsent(tag, t -> new RoaringBitmap()).add(id);
+        }
+        typeBitmaps.computeIfAbsent(task.getClass(), t -> new RoaringBitmap()).add(id);
+        if (trigramBitmaps != null) {
+            for (String trigram : getTrigrams(task.getDescription())) {
+                trigramBitmaps.computeIfAbsent(trigram, t -> new RoaringBitmap()).add(id);
+            }
+        }
+    }
+
+    @Override
+    public void taskRemoved(Task task) {
+        Integer id = ids.remove(task);
+        if (id == null) {
+            return;
+        }
+        tasksById.set(id, null);
+        allTasks.remove(id);
+        doneTasks.remove(id);
+        for (String tag : task.getTags()) {
+            removeFrom(tagBitmaps, tag, id);
+        }
+        removeFrom(typeBitmaps, task.getClass(), id);
+        if (trigramBitmaps != null) {
+            for (String trigram : getTrigrams(task.getDescription())) {
+                removeFrom(trigramBitmaps, trigram, id);
+            }
+        }
+        if (tasksById.size() >= MIN_IDS_BEFORE_COMPACTING && ids.size() * 2 < tasksById.size()) {
+            compact();
+        }
+    }
+
+    @Override
+    public void taskChanged(Task task) {
+        Integer id = ids.get(task);
+        if (id == null) {
+            return;
+        }
+        if (task.isDone()) {
+            doneTasks.add(id);
+        } else {
+            doneTasks.remove(id);
+        }
+    }
+
+    /**
+     * Returns tasks meeting every clause, in list order.
+     * A task meets a clause if it meets any condition in it; conditions are
+     * "#tag", "done:yes" or "done:no", negated by a leading "!".
+     *
+     * @param clauses Clauses of lower case conditions.
+     * @return Tasks matching the filter.
+     */
+    List<Task> filter(List<List<String>> clauses) {
+        RoaringBitmap matches = allTasks;
+        for (List<String> clause : clauses) {
+            RoaringBitmap clauseMatches = new RoaringBitmap();
+            for (String condition : clause) {
+                clauseMatches = clauseMatches.or(getBitmap(condition));
+            }
+            matches = matches.and(clauseMatches);
+        }
+        return getTasks(matches);
+    }
+
+    /**
+     * Returns tasks with the given ids, in list order.
+     */
+    List<Task> getTasks(RoaringBitmap taskIds) {
+        List<Task> tasks = new ArrayList<>(taskIds.getCardinality());
+        taskIds.forEach(id -> tasks.add(tasksById.get(id)));
+        return tasks;
+    }
+
+    /**
+     * Returns ids of the given tasks, ignoring those not in the index.
+     */
+    RoaringBitmap getIds(Collection<Task> tasks) {
+        RoaringBitmap taskIds = new RoaringBitmap();
+        for (Task task : tasks) {
+            Integer id = ids.get(task);
+            if (id != null) {
+                taskIds.add(id);
+            }
+        }
+        return taskIds;
+    }
+
+    RoaringBitmap getAllTasks() {
+        return allTasks;
+    }
+
+    RoaringBitmap getDoneTasks() {
+        return doneTasks;
+    }
+
+    RoaringBitmap getTasksTagged(String tag) {
+        return tagBitmaps.getOrDefault(tag, new RoaringBitmap());
+    }
+
+    RoaringBitmap getTasksOfType(Class<? extends Task> type) {
+        return typeBitmaps.getOrDefault(type, new RoaringBitmap());
+    }
+
+    /**
+     * Returns ids of tasks whose description may contain text, ignoring case:
+     * those having every trigram of text. Returns null if text is too short
+     * to have a trigram. Synchronized as the first call builds the trigrams,
+     * and several readers of the list may call it at the same time.
+     */
+    synchronized RoaringBitmap getTasksPossiblyContaining(String text) {
+        List<String> trigrams = getTrigrams(text);
+        if (trigrams.isEmpty()) {
+            return null;
+        }
+        if (trigramBitmaps == null) {
+            trigramBitmaps = new HashMap<>();
+            for (int id = 0; id < tasksById.size(); id++) {
+                Task task = tasksById.get(id);
+                if (task != null) {
+                    for (String trigram : getTrigrams(task.getDescription())) {
+                        trigramBitmaps.computeIfAbsent(trigram, t -> new RoaringBitmap()).add(id);
+                    }
+                }
+            }
+        }
+        RoaringBitmap candidates = allTasks;
+        for (String trigram : trigrams) {
+            candidates = candidates.and(trigramBitmaps.getOrDefault(trigram, new RoaringBitmap()));
+        }
+        return candidates;
+    }
+
+    private static List<String> getTrigrams(String text) {
+        String lowerCaseText = text.toLowerCase();
+        List<String> trigrams = new ArrayList<>();
+        for (int i = 0; i + TRIGRAM_LENGTH <= lowerCaseText.length(); i++) {
+            trigrams.add(lowerCaseText.substring(i, i + TRIGRAM_LENGTH));
+        }
+        return trigrams;
+    }
+
+    private static <K> void removeFrom(Map<K, RoaringBitmap> bitmaps, K key, int id) {
+        RoaringBitmap bitmap = bitmaps.get(key);
+        if (bitmap == null) {
+            return;
+        }
+        bitmap.remove(id);
+        if (bitmap.isEmpty()) {
+            bitmaps.remove(key);
+        }
+    }
+
+    private RoaringBitmap getBitmap(String condition) {
+        if (condition.startsWith("!")) {
+            return allTasks.andNot(getBitmap(condition.substring(1)));
+        }
+        if (condition.equals("done:yes")) {
+            return doneTasks;
+        }
+        if (condition.equals("done:no")) {
+            return allTasks.andNot(doneTasks);
+        }
+        return getTasksTagged(condition.substring(1));
+    }
+
+    /**
+     * Gives remaining tasks new ids from 0, keeping their order,
+     * so that ids of removed tasks do not pile up.
+     */
+    private void compact() {
+        List<Task> remaining = new ArrayList<>(ids.size());
+        for (Task task : tasksById) {
+            if (task != null) {
+                remaining.add(task);
+            }
+        }
+        ids.clear();
+        tasksById.clear();
+        tagBitmaps.clear();
+        typeBitmaps.clear();
+        if (trigramBitmaps != null) {
+            trigramBitmaps.clear();
+        }
+        allTasks = new RoaringBitmap();
+        doneTasks = new RoaringBitmap();
+        for (Task task : remaining) {
+            taskAdded(task);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package tasklist;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import task.Deadline;
+import task.Event;
+import task.RecurringTask;
+import task.Task;
+
+/**
+ * Index of the days covered by every Deadline, Event and RecurringTask in a TaskList.
+ * A RecurringTask is indexed over the whole span of its rule and is only
+ * reported for a range it actually has an occurrence in.
+ */
+class DateIndex implements TaskListListener {
+    private final IntervalTree<Task> intervalTree = new IntervalTree<>();
+
+    @Override
+    public void taskAdded(Task task) {
+        if (task instanceof Deadline) {
+            long epochDay = task.getDate().toEpochDay();
+            intervalTree.insert(task, epochDay, epochDay);
+        } else if (task instanceof Event) {
+            Event event = (Event) task;
+            intervalTree.insert(event, event.getDate().toEpochDay(), event.getEndDate().toEpochDay());
+        } else if (task instanceof RecurringTask) {
+            RecurringTask recurringTask = (RecurringTask) task;
+            LocalDate until = recurringTask.getUntil();
+            long end = until == null ? Long.MAX_VALUE : until.toEpochDay();
+            intervalTree.insert(recurringTask, recurringTask.getDate().toEpochDay(), end);
+        }
+    }
+
+    @Override
+    public void taskRemoved(Task task) {
+        intervalTree.remove(task);
+    }
+
+    @Override
+    public void taskChanged(Task task) {
+        // dates never change
+    }
+
+    /**
+     * Returns tasks happening on at least one day from from to to (inclusive),
+     * ordered by first day.
+     */
+    List<Task> findOverlapping(LocalDate from, LocalDate to) {
+        List<Task> overlapping = new ArrayList<>();
+        for (Task task : intervalTree.findOverlapping(from.toEpochDay(), to.toEpochDay())) {
+            LocalDate next = task.getNextDate(from);
+            if (next != null && !next.isAfter(to)) {
+                overlapping.add(task);
+            }
+        }
+        return overlapping;
+    }
+
+    /**
+     * Returns an upper bound on the number of tasks findOverlapping(from, to) would return,
+     * counting no further than limit: the result is limit + 1 once there are more.
+     * Costs no more than finding the first limit + 1 of them.
+     */
+    int countOverlapping(LocalDate from, LocalDate to, int limit) {
+        return intervalTree.countOverlapping(from.toEpochDay(), to.toEpochDay(), limit);
+    }
+}
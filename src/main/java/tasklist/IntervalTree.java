@@ -0,0 +1,206 @@
+package tasklist;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Holds values over closed ranges [start, end] and finds
+ * all values whose range overlaps a given one.
+ * Implemented as a treap ordered by start and augmented
+ * with the largest end in every subtree, so insert and remove
+ * take O(log n) and an overlap query O(log n + k), all expected.
+ *
+ * @param <T> Type of value held, compared by identity.
+ */
+class IntervalTree<T> {
+    private final Map<T, Node<T>> nodes = new IdentityHashMap<>();
+    private final Random random = new Random();
+    private Node<T> root;
+    private long nextId = 0;
+
+    /**
+     * Node of the treap.
+     * Nodes with equal start are ordered by id.
+     */
+    private static class Node<T> {
+        private final T value;
+        private final long start;
+        private final long end;
+        private final long id;
+        private final int priority;
+        private long maxEnd;
+        private Node<T> left;
+        private Node<T> right;
+
+        private Node(T value, long start, long end, long id, int priority) {
+            this.value = value;
+            this.start = start;
+            this.end = end;
+            this.id = id;
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+    }
+
+    /**
+     * Adds value over range [start, end], replacing any range it had before.
+     */
+    void insert(T value, long start, long end) {
+        remove(value);
+        Node<T> node = new Node<>(value, start, end, nextId++, random.nextInt());
+        nodes.put(value, node);
+        root = insert(root, node);
+    }
+
+    /**
+     * Removes value, returning false if it was not held.
+     */
+    boolean remove(T value) {
+        Node<T> node = nodes.remove(value);
+        if (node == null) {
+            return false;
+        }
+        root = remove(root, node);
+        return true;
+    }
+
+    int size() {
+        return nodes.size();
+    }
+
+    /**
+     * Returns all values whose range overlaps [from, to], ordered by start.
+     */
+    List<T> findOverlapping(long from, long to) {
+        List<T> overlapping = new ArrayList<>();
+        findOverlapping(root, from, to, overlapping);
+        return overlapping;
+    }
+
+    /**
+     * Returns number of values whose range overlaps [from, to], or limit + 1
+     * if there are more than limit, in which case counting stops there.
+     */
+    int countOverlapping(long from, long to, int limit) {
+        return countOverlapping(root, from, to, limit, 0);
+    }
+
+    private int countOverlapping(Node<T> node, long from, long to, int limit, int count) {
+        if (node == null || node.maxEnd < from || count > limit) {
+            return count;
+        }
+        int newCount = countOverlapping(node.left, from, to, limit, count);
+        if (node.start > to || newCount > limit) {
+            return newCount;
+        }
+        if (node.end >= from) {
+            newCount++;
+        }
+        return countOverlapping(node.right, from, to, limit, newCount);
+    }
+
+    private void findOverlapping(Node<T> node, long from, long to, List<T> overlapping) {
+        if (node == null || node.maxEnd < from) {
+            return;
+        }
+        findOverlapping(node.left, from, to, overlapping);
+        if (node.start > to) {
+            return;
+        }
+        if (node.end >= from) {
+            overlapping.add(node.value);
+        }
+        findOverlapping(node.right, from, to, overlapping);
+    }
+
+    private Node<T> insert(Node<T> node, Node<T> newNode) {
+        if (node == null) {
+            return newNode;
+        }
+        if (compare(newNode, node) < 0) {
+            node.left = insert(node.left, newNode);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, newNode);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        update(node);
+        return node;
+    }
+
+    private Node<T> remove(Node<T> node, Node<T> target) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = compare(target, node);
+        if (comparison < 0) {
+            node.left = remove(node.left, target);
+        } else if (comparison > 0) {
+            node.right = remove(node.right, target);
+        } else {
+            return merge(node.left, node.right);
+        }
+        update(node);
+        return node;
+    }
+
+    private Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private Node<T> rotateRight(Node<T> node) {
+        Node<T> newRoot = node.left;
+        node.left = newRoot.right;
+        update(node);
+        newRoot.right = node;
+        update(newRoot);
+        return newRoot;
+    }
+
+    private Node<T> rotateLeft(Node<T> node) {
+        Node<T> newRoot = node.right;
+        node.right = newRoot.left;
+        update(node);
+        newRoot.left = node;
+        update(newRoot);
+        return newRoot;
+    }
+
+    private static <T> void update(Node<T> node) {
+        long maxEnd = node.end;
+        if (node.left != null) {
+            maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    private static <T> int compare(Node<T> a, Node<T> b) {
+        if (a.start != b.start) {
+            return Long.compare(a.start, b.start);
+        }
+        return Long.compare(a.id, b.id);
+    }
+}
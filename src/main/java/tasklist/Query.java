@@ -0,0 +1,485 @@
+package tasklist;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+
+import task.Task;
+
+/**
+ * Condition on tasks, compiled into a tree of and, or and not
+ * over simple conditions on type, done status, tag, text and date.
+ * Conditions an index can answer offer an access path, which
+ * QueryPlan uses to check only some tasks instead of all of them.
+ */
+public abstract class Query {
+
+    /**
+     * Returns true if task meets the condition.
+     */
+    abstract boolean matches(Task task);
+
+    /**
+     * Returns the most selective way to find a superset of the tasks
+     * meeting the condition using the indexes of taskList,
+     * or null if no index can narrow them down.
+     * Candidates that are costly to find are only found once asked for.
+     */
+    abstract AccessPath getAccessPath(TaskList taskList);
+
+    /**
+     * Returns condition met by tasks meeting every one of queries.
+     *
+     * @param queries Conditions to combine.
+     * @return Combined condition.
+     */
+    public static Query and(List<Query> queries) {
+        return queries.size() == 1 ? queries.get(0) : new And(queries);
+    }
+
+    /**
+     * Returns condition met by tasks meeting any one of queries.
+     *
+     * @param queries Conditions to combine.
+     * @return Combined condition.
+     */
+    public static Query or(List<Query> queries) {
+        return queries.size() == 1 ? queries.get(0) : new Or(queries);
+    }
+
+    public static Query not(Query query) {
+        return new Not(query);
+    }
+
+    /**
+     * Returns condition met by tasks of exactly the given class.
+     *
+     * @param type Class of task, such as Deadline.class.
+     * @param name Name of the type as typed by the user.
+     * @return Condition on type.
+     */
+    public static Query type(Class<? extends Task> type, String name) {
+        return new TypeQuery(type, name);
+    }
+
+    public static Query done(boolean isDone) {
+        return new DoneQuery(isDone);
+    }
+
+    public static Query tag(String tag) {
+        return new TagQuery(tag.toLowerCase());
+    }
+
+    public static Query text(String text) {
+        return new TextQuery(text.toLowerCase());
+    }
+
+    /**
+     * Returns condition met by tasks due or happening on a day before date.
+     *
+     * @param date Date all matching days are before.
+     * @return Condition on date.
+     */
+    public static Query before(LocalDate date) {
+        return new DateQuery(LocalDate.MIN, date.minusDays(1), "before:" + date);
+    }
+
+    /**
+     * Returns condition met by tasks due or happening on a day after date.
+     *
+     * @param date Date all matching days are after.
+     * @return Condition on date.
+     */
+    public static Query after(LocalDate date) {
+        return new DateQuery(date.plusDays(1), LocalDate.MAX, "after:" + date);
+    }
+
+    /**
+     * Returns condition met by tasks due or happening on date.
+     *
+     * @param date Date to match.
+     * @return Condition on date.
+     */
+    public static Query on(LocalDate date) {
+        return new DateQuery(date, date, "on:" + date);
+    }
+
+    /**
+     * Candidate tasks found through an index, and how they were found.
+     * Candidates an index already holds are given up front. Others are only
+     * found when getCandidates() is first called, and until then their number
+     * can be estimated cheaply, so a planner can compare paths without building them.
+     */
+    static class AccessPath {
+        private final String description;
+        private final IntUnaryOperator sizeEstimator;
+        private final Supplier<RoaringBitmap> candidatesFinder;
+        private final List<AccessPath> rejectedPaths;
+        private RoaringBitmap candidates;
+        private int estimatedSize = -1;
+        private int estimateLimit;
+
+        AccessPath(RoaringBitmap candidates, String description) {
+            this(null, null, description, List.of());
+            this.candidates = candidates;
+        }
+
+        /**
+         * Creates path whose candidates are found only when first needed.
+         *
+         * @param sizeEstimator Returns, for a limit, an upper bound on the number of candidates
+         *     if that is at most limit, or any number above limit otherwise.
+         * @param candidatesFinder Finds the candidates.
+         * @param description How the candidates are found.
+         */
+        AccessPath(IntUnaryOperator sizeEstimator, Supplier<RoaringBitmap> candidatesFinder, String description) {
+            this(sizeEstimator, candidatesFinder, description, List.of());
+        }
+
+        private AccessPath(IntUnaryOperator sizeEstimator, Supplier<RoaringBitmap> candidatesFinder,
+                String description, List<AccessPath> rejectedPaths) {
+            this.sizeEstimator = sizeEstimator;
+            this.candidatesFinder = candidatesFinder;
+            this.description = description;
+            this.rejectedPaths = rejectedPaths;
+        }
+
+        RoaringBitmap getCandidates() {
+            if (candidates == null) {
+                candidates = candidatesFinder.get();
+            }
+            return candidates;
+        }
+
+        boolean isFound() {
+            return candidates != null;
+        }
+
+        /**
+         * Returns number of candidates if they are found, or an upper bound on it
+         * if that is at most limit, or some number above limit otherwise.
+         */
+        int estimateSize(int limit) {
+            if (isFound()) {
+                return candidates.getCardinality();
+            }
+            estimatedSize = sizeEstimator.applyAsInt(limit);
+            estimateLimit = limit;
+            return estimatedSize;
+        }
+
+        /**
+         * Describes the path with its number of candidates, finding them if needed,
+         * and the paths it was chosen over with the sizes they were estimated at.
+         */
+        @Override
+        public String toString() {
+            String path = description + " (" + getCandidates().getCardinality() + " candidates)";
+            if (rejectedPaths.isEmpty()) {
+                return path;
+            }
+            StringJoiner rejected = new StringJoiner(", ", path + ", chosen over ", "");
+            rejectedPaths.forEach(rejectedPath -> rejected.add(rejectedPath.describeEstimate()));
+            return rejected.toString();
+        }
+
+        private String describeEstimate() {
+            String size;
+            if (isFound()) {
+                size = String.valueOf(candidates.getCardinality());
+            } else if (estimatedSize > estimateLimit) {
+                size = "more than " + estimateLimit;
+            } else {
+                size = "at most " + estimatedSize;
+            }
+            return description + " (" + size + " candidates)";
+        }
+    }
+
+    private static class And extends Query {
+        private final List<Query> queries;
+
+        private And(List<Query> queries) {
+            this.queries = List.copyOf(queries);
+        }
+
+        @Override
+        boolean matches(Task task) {
+            for (Query query : queries) {
+                if (!query.matches(task)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Picks the access path of the child with the fewest candidates, finding only its candidates.
+         * Paths whose candidates are already found are sized first, and the others
+         * are only estimated as far as needed to beat the smallest so far.
+         */
+        @Override
+        AccessPath getAccessPath(TaskList taskList) {
+            List<AccessPath> paths = new ArrayList<>();
+            for (Query query : queries) {
+                AccessPath path = query.getAccessPath(taskList);
+                if (path != null) {
+                    paths.add(path);
+                }
+            }
+            if (paths.size() <= 1) {
+                return paths.isEmpty() ? null : paths.get(0);
+            }
+            AccessPath best = null;
+            int bestSize = Integer.MAX_VALUE;
+            for (boolean isFoundPass : new boolean[] {true, false}) {
+                for (AccessPath path : paths) {
+                    if (path.isFound() != isFoundPass) {
+                        continue;
+                    }
+                    int size = path.estimateSize(bestSize);
+                    if (best == null || size < bestSize) {
+                        best = path;
+                        bestSize = size;
+                    }
+                }
+            }
+            AccessPath chosen = best;
+            paths.remove(chosen);
+            return new AccessPath(chosen::estimateSize, chosen::getCandidates, chosen.description, paths);
+        }
+
+        @Override
+        public String toString() {
+            StringJoiner joiner = new StringJoiner(" ");
+            queries.forEach(query -> joiner.add(query.toString()));
+            return joiner.toString();
+        }
+    }
+
+    private static class Or extends Query {
+        private final List<Query> queries;
+
+        private Or(List<Query> queries) {
+            this.queries = List.copyOf(queries);
+        }
+
+        @Override
+        boolean matches(Task task) {
+            for (Query query : queries) {
+                if (query.matches(task)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Unites the access paths of all children, if every child has one.
+         * The union is only found when needed, and estimated by the sum of the children's sizes.
+         */
+        @Override
+        AccessPath getAccessPath(TaskList taskList) {
+            List<AccessPath> paths = new ArrayList<>();
+            StringJoiner description = new StringJoiner(" and ", "union of ", "");
+            for (Query query : queries) {
+                AccessPath path = query.getAccessPath(taskList);
+                if (path == null) {
+                    return null;
+                }
+                paths.add(path);
+                description.add(path.description);
+            }
+            return new AccessPath(limit -> estimateUnionSize(paths, limit), () -> unite(paths),
+                    description.toString());
+        }
+
+        private static int estimateUnionSize(List<AccessPath> paths, int limit) {
+            long size = 0;
+            for (AccessPath path : paths) {
+                size += path.estimateSize((int) (limit - size));
+                if (size > limit) {
+                    break;
+                }
+            }
+            return (int) Math.min(size, Integer.MAX_VALUE);
+        }
+
+        private static RoaringBitmap unite(List<AccessPath> paths) {
+            RoaringBitmap candidates = new RoaringBitmap();
+            for (AccessPath path : paths) {
+                candidates = candidates.or(path.getCandidates());
+            }
+            return candidates;
+        }
+
+        @Override
+        public String toString() {
+            StringJoiner joiner = new StringJoiner("|");
+            queries.forEach(query -> joiner.add(query.toString()));
+            return joiner.toString();
+        }
+    }
+
+    private static class Not extends Query {
+        private final Query query;
+
+        private Not(Query query) {
+            this.query = query;
+        }
+
+        @Override
+        boolean matches(Task task) {
+            return !query.matches(task);
+        }
+
+        @Override
+        AccessPath getAccessPath(TaskList taskList) {
+            return null;
+        }
+
+        @Override
+        public String toString() {
+            return "!" + query;
+        }
+    }
+
+    private static class TypeQuery extends Query {
+        private final Class<? extends Task> type;
+        private final String name;
+
+        private TypeQuery(Class<? extends Task> type, String name) {
+            this.type = type;
+            this.name = name;
+        }
+
+        @Override
+        boolean matches(Task task) {
+            return task.getClass() == type;
+        }
+
+        @Override
+        AccessPath getAccessPath(TaskList taskList) {
+            return new AccessPath(taskList.getBitmapIndex().getTasksOfType(type), "type index for " + this);
+        }
+
+        @Override
+        public String toString() {
+            return "type:" + name;
+        }
+    }
+
+    private static class DoneQuery extends Query {
+        private final boolean isDone;
+
+        private DoneQuery(boolean isDone) {
+            this.isDone = isDone;
+        }
+
+        @Override
+        boolean matches(Task task) {
+            return task.isDone() == isDone;
+        }
+
+        @Override
+        AccessPath getAccessPath(TaskList taskList) {
+            BitmapIndex bitmapIndex = taskList.getBitmapIndex();
+            if (isDone) {
+                return new AccessPath(bitmapIndex.getDoneTasks(), "done bitmap for " + this);
+            }
+            return new AccessPath(
+                limit -> bitmapIndex.getAllTasks().getCardinality() - bitmapIndex.getDoneTasks().getCardinality(),
+                () -> bitmapIndex.getAllTasks().andNot(bitmapIndex.getDoneTasks()), "done bitmap for " + this);
+        }
+
+        @Override
+        public String toString() {
+            return isDone ? "done:yes" : "done:no";
+        }
+    }
+
+    private static class TagQuery extends Query {
+        private final String tag;
+
+        private TagQuery(String tag) {
+            this.tag = tag;
+        }
+
+        @Override
+        boolean matches(Task task) {
+            return task.getTags().contains(tag);
+        }
+
+        @Override
+        AccessPath getAccessPath(TaskList taskList) {
+            return new AccessPath(taskList.getBitmapIndex().getTasksTagged(tag), "tag index for " + this);
+        }
+
+        @Override
+        public String toString() {
+            return "tag:" + tag;
+        }
+    }
+
+    private static class TextQuery extends Query {
+        private final String text;
+
+        private TextQuery(String text) {
+            this.text = text;
+        }
+
+        @Override
+        boolean matches(Task task) {
+            return task.getDescription().toLowerCase().contains(text);
+        }
+
+        @Override
+        AccessPath getAccessPath(TaskList taskList) {
+            RoaringBitmap candidates = taskList.getBitmapIndex().getTasksPossiblyContaining(text);
+            return candidates == null ? null : new AccessPath(candidates, "trigram index for " + this);
+        }
+
+        @Override
+        public String toString() {
+            return "text:" + text;
+        }
+    }
+
+    private static class DateQuery extends Query {
+        private final LocalDate from;
+        private final LocalDate to;
+        private final String description;
+
+        private DateQuery(LocalDate from, LocalDate to, String description) {
+            this.from = from;
+            this.to = to;
+            this.description = description;
+        }
+
+        @Override
+        boolean matches(Task task) {
+            LocalDate next = task.getNextDate(from);
+            return next != null && !next.isAfter(to);
+        }
+
+        /**
+         * Returns path through the date index, sized by counting overlapping
+         * ranges in it only up to the limit asked for.
+         */
+        @Override
+        AccessPath getAccessPath(TaskList taskList) {
+            DateIndex dateIndex = taskList.getDateIndex();
+            BitmapIndex bitmapIndex = taskList.getBitmapIndex();
+            return new AccessPath(limit -> dateIndex.countOverlapping(from, to, limit),
+                () -> bitmapIndex.getIds(dateIndex.findOverlapping(from, to)), "date index for " + this);
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package tasklist;
+
+import task.Task;
+
+/**
+ * Way of running a Query on a TaskList: the access path chosen
+ * to find candidate tasks, each of which is then checked
+ * against the whole Query.
+ */
+public class QueryPlan {
+    private final Query query;
+    private final Query.AccessPath accessPath;
+    private final BitmapIndex bitmapIndex;
+    private int noOfTasksScanned = 0;
+
+    QueryPlan(Query query, Query.AccessPath accessPath, BitmapIndex bitmapIndex) {
+        this.query = query;
+        this.accessPath = accessPath;
+        this.bitmapIndex = bitmapIndex;
+    }
+
+    /**
+     * Returns new TaskList containing all Tasks meeting the query, in list order.
+     *
+     * @return TaskList of all Tasks found.
+     */
+    public TaskList execute() {
+        RoaringBitmap candidates = accessPath == null ? bitmapIndex.getAllTasks() : accessPath.getCandidates();
+        TaskList matchingTasks = new TaskList();
+        for (Task task : bitmapIndex.getTasks(candidates)) {
+            if (query.matches(task)) {
+                matchingTasks.addTask(task);
+            }
+        }
+        noOfTasksScanned = candidates.getCardinality();
+        return matchingTasks;
+    }
+
+    /**
+     * Returns number of tasks checked against the query by the last execute().
+     *
+     * @return Number of tasks scanned.
+     */
+    public int getNoOfTasksScanned() {
+        return noOfTasksScanned;
+    }
+
+    /**
+     * Returns the query and the access path chosen for it.
+     *
+     * @return Description of the plan.
+     */
+    public String describe() {
+        String path = accessPath == null
+                ? "scan all " + bitmapIndex.getAllTasks().getCardinality() + " tasks"
+                : "scan " + accessPath;
+        return "Query: " + query + "\nPlan: " + path;
+    }
+}
@@ -0,0 +1,52 @@
+package tasklist;
+
+import java.util.Collections;
+import java.util.List;
+
+import task.Task;
+
+/**
+ * Tasks found by TaskList.searchTasks() for some text, kept so that
+ * the search for a longer text can narrow them down instead of
+ * scanning the whole list again.
+ */
+public class SearchResult {
+    private final String text;
+    private final List<Task> tasks;
+    private final TaskList taskList;
+    private final long modCount;
+    private final int noOfTasksScanned;
+
+    SearchResult(String text, List<Task> tasks, TaskList taskList, long modCount, int noOfTasksScanned) {
+        this.text = text;
+        this.tasks = Collections.unmodifiableList(tasks);
+        this.taskList = taskList;
+        this.modCount = modCount;
+        this.noOfTasksScanned = noOfTasksScanned;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public List<Task> getTasks() {
+        return tasks;
+    }
+
+    /**
+     * Returns number of tasks checked against the text to find this result.
+     *
+     * @return Number of tasks scanned.
+     */
+    public int getNoOfTasksScanned() {
+        return noOfTasksScanned;
+    }
+
+    /**
+     * Returns true if every task matching text is in this result,
+     * as the list has not changed since and text contains the text searched for.
+     */
+    boolean isNarrowableTo(String text, TaskList taskList, long modCount) {
+        return this.taskList == taskList && this.modCount == modCount && text.contains(this.text);
+    }
+}
@@ -0,0 +1,55 @@
+package tasklist;
+
+import java.util.Comparator;
+
+import task.Deadline;
+import task.Event;
+import task.RecurringTask;
+import task.Task;
+
+/**
+ * Orders in which TaskList can keep a sorted view of its tasks.
+ * Tasks with equal keys keep their list order.
+ */
+public enum SortOrder {
+    /** By date due or starting, tasks without a date last. */
+    DATE,
+    /** Tasks not done first. */
+    STATUS,
+    /** Todos, then deadlines, events and recurring tasks. */
+    TYPE;
+
+    /**
+     * Returns comparator putting tasks in this order.
+     *
+     * @return Comparator of tasks by their key in this order.
+     */
+    public Comparator<Task> getComparator() {
+        return Comparator.comparingLong(this::getKey);
+    }
+
+    /**
+     * Returns key of task in this order; smaller keys come first.
+     */
+    long getKey(Task task) {
+        switch (this) {
+        case DATE:
+            return task.getDate() == null ? Long.MAX_VALUE : task.getDate().toEpochDay();
+        case STATUS:
+            return task.isDone() ? 1 : 0;
+        default:
+            return getTypeRank(task);
+        }
+    }
+
+    private static long getTypeRank(Task task) {
+        if (task instanceof Deadline) {
+            return 1;
+        } else if (task instanceof Event) {
+            return 2;
+        } else if (task instanceof RecurringTask) {
+            return 3;
+        }
+        return 0;
+    }
+}
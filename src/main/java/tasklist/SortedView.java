@@ -0,0 +1,173 @@
+package tasklist;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import task.Task;
+
+/**
+ * Tasks of a TaskList kept sorted in one SortOrder.
+ * Entries are kept in sorted blocks of at most MAX_BLOCK_SIZE, so each change
+ * moves only the task concerned, within one block, and the task at any position
+ * is found by skipping whole blocks, without sorting or copying the list.
+ */
+class SortedView implements TaskListListener {
+    private static final int MAX_BLOCK_SIZE = 512;
+    private final SortOrder order;
+    private final ArrayList<ArrayList<Entry>> blocks = new ArrayList<>();
+    private final Map<Task, Entry> entriesByTask = new IdentityHashMap<>();
+    private long nextSequence = 0;
+    private int size = 0;
+
+    /**
+     * Position of a task in the view. The key is kept as it was when the
+     * task was added, so the entry can still be found after the task changes.
+     */
+    private static class Entry implements Comparable<Entry> {
+        private final long key;
+        private final long sequence;
+        private final Task task;
+
+        private Entry(long key, long sequence, Task task) {
+            this.key = key;
+            this.sequence = sequence;
+            this.task = task;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            if (key != other.key) {
+                return Long.compare(key, other.key);
+            }
+            return Long.compare(sequence, other.sequence);
+        }
+    }
+
+    SortedView(SortOrder order) {
+        this.order = order;
+    }
+
+    @Override
+    public void taskAdded(Task task) {
+        Entry entry = new Entry(order.getKey(task), nextSequence++, task);
+        insert(entry);
+        entriesByTask.put(task, entry);
+    }
+
+    @Override
+    public void taskRemoved(Task task) {
+        Entry entry = entriesByTask.remove(task);
+        if (entry != null) {
+            remove(entry);
+        }
+    }
+
+    @Override
+    public void taskChanged(Task task) {
+        Entry entry = entriesByTask.get(task);
+        if (entry == null || entry.key == order.getKey(task)) {
+            return;
+        }
+        remove(entry);
+        Entry movedEntry = new Entry(order.getKey(task), entry.sequence, task);
+        insert(movedEntry);
+        entriesByTask.put(task, movedEntry);
+    }
+
+    /**
+     * Returns all tasks in the view's order.
+     */
+    List<Task> getTasks() {
+        return getTasks(0, size);
+    }
+
+    /**
+     * Returns the tasks from position from to position to (exclusive) in the view's order,
+     * counting from 0. Whole blocks before from are skipped, so only the tasks returned are copied.
+     */
+    List<Task> getTasks(int from, int to) {
+        assert 0 <= from && from <= to && to <= size;
+        List<Task> tasks = new ArrayList<>(to - from);
+        int blockStart = 0;
+        for (ArrayList<Entry> block : blocks) {
+            if (blockStart >= to) {
+                break;
+            }
+            int blockEnd = blockStart + block.size();
+            for (int i = Math.max(from, blockStart); i < Math.min(to, blockEnd); i++) {
+                tasks.add(block.get(i - blockStart).task);
+            }
+            blockStart = blockEnd;
+        }
+        return tasks;
+    }
+
+    int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the task at position in the view's order, counting from 0.
+     * Costs O(n / MAX_BLOCK_SIZE), however far into the view position is.
+     */
+    Task getTask(int position) {
+        assert position >= 0 && position < size;
+        int offset = position;
+        for (ArrayList<Entry> block : blocks) {
+            if (offset < block.size()) {
+                return block.get(offset).task;
+            }
+            offset -= block.size();
+        }
+        throw new IndexOutOfBoundsException("No task at position " + position);
+    }
+
+    private void insert(Entry entry) {
+        if (blocks.isEmpty()) {
+            blocks.add(new ArrayList<>());
+        }
+        int blockIndex = findBlock(entry);
+        ArrayList<Entry> block = blocks.get(blockIndex);
+        block.add(-Collections.binarySearch(block, entry) - 1, entry);
+        size++;
+        if (block.size() > MAX_BLOCK_SIZE) {
+            List<Entry> upperHalf = block.subList(block.size() / 2, block.size());
+            blocks.add(blockIndex + 1, new ArrayList<>(upperHalf));
+            upperHalf.clear();
+        }
+    }
+
+    private void remove(Entry entry) {
+        int blockIndex = findBlock(entry);
+        ArrayList<Entry> block = blocks.get(blockIndex);
+        int position = Collections.binarySearch(block, entry);
+        assert position >= 0 : "entry is not in the view";
+        block.remove(position);
+        size--;
+        if (block.isEmpty()) {
+            blocks.remove(blockIndex);
+        }
+    }
+
+    /**
+     * Returns index of the first block whose last entry is not before entry,
+     * or of the last block if there is none, which is where entry belongs.
+     */
+    private int findBlock(Entry entry) {
+        int low = 0;
+        int high = blocks.size() - 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            ArrayList<Entry> block = blocks.get(middle);
+            if (block.get(block.size() - 1).compareTo(entry) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
@@ -1,14 +1,75 @@
 package tasklist;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 
 import exceptions.DukeException;
+import task.Deadline;
 import task.Task;
+import utility.TodayClock;
 /**
  * Manage all interactions between Duke and UserInputHistory FILE storage.
+ * Not thread-safe, except that indexes built on first use are built once
+ * even if several threads read the list at the same time.
  */
 public class TaskList {
+    private static final int TASKS_PER_CHUNK = 64;
     private final ArrayList<Task> userInputHistoryList = new ArrayList<>();
+    private final ArrayList<TaskListListener> listeners = new ArrayList<>();
+    private final TodayClock today;
+    private DateIndex dateIndex;
+    private BitmapIndex bitmapIndex;
+    private TaskStatistics statistics;
+    private final Map<SortOrder, SortedView> sortedViews = new EnumMap<>(SortOrder.class);
+    private long modCount = 0;
+    // Changes made since this list was created by stageChanges(), or null if it was not
+    private ArrayList<StagedChange> stagedChanges;
+    private long stagedFromModCount;
+
+    /**
+     * Change made to a staged list, which can be made again to the list it was staged from.
+     */
+    private interface StagedChange {
+        void applyTo(TaskList taskList);
+    }
+
+    public TaskList() {
+        this(TodayClock.SYSTEM);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param today Tells the date tasks are marked as done on, and which tasks are for today.
+     */
+    public TaskList(TodayClock today) {
+        this.today = today;
+    }
+
+    public TodayClock getTodayClock() {
+        return today;
+    }
+
+    /**
+     * Registers listener to be told of every later change to the list.
+     * Tasks already in the list are reported to it as added.
+     *
+     * @param listener Listener to register.
+     */
+    public void addListener(TaskListListener listener) {
+        listeners.add(listener);
+        for (Task task : userInputHistoryList) {
+            listener.taskAdded(task);
+        }
+    }
 
     /**
      * Adds Task to list if it is not null.
@@ -17,7 +78,14 @@ public class TaskList {
      */
     public void addTask(Task t) {
         if (t != null) {
+            if (stagedChanges != null) {
+                stagedChanges.add(taskList -> taskList.addTask(t));
+            }
+            modCount++;
             userInputHistoryList.add(t);
+            for (TaskListListener listener : listeners) {
+                listener.taskAdded(t);
+            }
         }
     }
 
@@ -28,12 +96,23 @@ public class TaskList {
      */
     public void deleteTask(int n) throws DukeException {
         try {
-            userInputHistoryList.remove(n - 1);
+            removeTask(n - 1);
         } catch (IndexOutOfBoundsException ioobe) {
             throw new DukeException("Invalid index");
         }
     }
 
+    private void removeTask(int index) {
+        Task removed = userInputHistoryList.remove(index);
+        if (stagedChanges != null) {
+            stagedChanges.add(taskList -> taskList.removeTask(index));
+        }
+        modCount++;
+        for (TaskListListener listener : listeners) {
+            listener.taskRemoved(removed);
+        }
+    }
+
     /**
      * Returns true if task at index (n - 1) has date today.
      *
@@ -42,7 +121,7 @@ public class TaskList {
      */
     public boolean checkIsToday(int n) throws DukeException {
         try {
-            return userInputHistoryList.get(n - 1).isToday();
+            return userInputHistoryList.get(n - 1).isToday(today.getDate());
         } catch (IndexOutOfBoundsException ioobe) {
             throw new DukeException("Invalid index");
         }
@@ -77,21 +156,78 @@ public class TaskList {
      *
      * @return Mutable string containing details of all tasks.
      */
-    public StringBuffer getContents() {
-        StringBuffer list = new StringBuffer();
-        for (int i = 0; i < userInputHistoryList.size(); i++) {
-            list.append((i + 1) + ". " + userInputHistoryList.get(i) + "\n");
-        }
+    public StringBuilder getContents() {
+        StringBuilder list = new StringBuilder();
+        writeContents(1, userInputHistoryList.size(), list::append);
         return list;
     }
 
+    /**
+     * Writes formatted tasks from index from to index to (both 1-indexed, inclusive)
+     * to sink, TASKS_PER_CHUNK tasks at a time.
+     *
+     * @param from Index of first task to write.
+     * @param to Index of last task to write.
+     * @param sink Receives formatted chunks in order.
+     */
+    public void writeContents(int from, int to, Consumer<CharSequence> sink) {
+        int first = Math.max(from, 1);
+        int last = Math.min(to, userInputHistoryList.size());
+        writeContents(userInputHistoryList.subList(Math.min(first, last + 1) - 1, last), first, sink);
+    }
+
+    /**
+     * Writes formatted tasks like writeContents(), but numbered by their position
+     * in order rather than in the list. Only the tasks written are read from the sorted view.
+     *
+     * @param order Order the tasks are sorted in.
+     * @param from Position of first task to write (1-indexed).
+     * @param to Position of last task to write (inclusive).
+     * @param sink Receives formatted chunks in order.
+     */
+    public synchronized void writeSortedContents(SortOrder order, int from, int to, Consumer<CharSequence> sink) {
+        int first = Math.max(from, 1);
+        int last = Math.min(to, userInputHistoryList.size());
+        writeContents(getSortedView(order).getTasks(Math.min(first, last + 1) - 1, last), first, sink);
+    }
+
+    /**
+     * Writes tasks to sink, numbered from first.
+     */
+    private static void writeContents(List<Task> tasks, int first, Consumer<CharSequence> sink) {
+        StringBuilder chunk = new StringBuilder();
+        for (int i = 0; i < tasks.size(); i++) {
+            int n = first + i;
+            chunk.append(n).append(". ").append(tasks.get(i)).append('\n');
+            if (n % TASKS_PER_CHUNK == 0) {
+                sink.accept(chunk);
+                chunk = new StringBuilder();
+            }
+        }
+        if (chunk.length() > 0) {
+            sink.accept(chunk);
+        }
+    }
+
     /**
      * Marks completed task at index (n - 1).
      *
      * @param n Index to mark.
      */
     public void markTask(int n) {
-        userInputHistoryList.get(n - 1).markAsDone();
+        Task task = userInputHistoryList.get(n - 1);
+        if (task.isDone()) {
+            return;
+        }
+        if (stagedChanges != null) {
+            task = copyBeforeStagedChange(n);
+            stagedChanges.add(taskList -> taskList.markTask(n));
+        }
+        task.markAsDone(today.getDate());
+        modCount++;
+        for (TaskListListener listener : listeners) {
+            listener.taskChanged(task);
+        }
     }
 
     /**
@@ -100,7 +236,29 @@ public class TaskList {
      * @param n Index to unmark.
      */
     public void unmarkTask(int n) {
-        userInputHistoryList.get(n - 1).markAsNotDone();
+        Task task = userInputHistoryList.get(n - 1);
+        if (!task.isDone()) {
+            return;
+        }
+        if (stagedChanges != null) {
+            task = copyBeforeStagedChange(n);
+            stagedChanges.add(taskList -> taskList.unmarkTask(n));
+        }
+        task.markAsNotDone();
+        modCount++;
+        for (TaskListListener listener : listeners) {
+            listener.taskChanged(task);
+        }
+    }
+
+    /**
+     * Returns number of changes made to the list so far.
+     * Callers can tell whether the list changed from whether this did.
+     *
+     * @return Number of changes made.
+     */
+    public long getModCount() {
+        return modCount;
     }
 
     /**
@@ -117,6 +275,316 @@ public class TaskList {
         }
     }
 
+    /**
+     * Returns n such that getTask(n) is task itself, found by identity.
+     *
+     * @param task Task to look for.
+     * @return Index of task, or -1 if it is not in the list.
+     */
+    public int getIndexOf(Task task) {
+        for (int i = 0; i < userInputHistoryList.size(); i++) {
+            if (userInputHistoryList.get(i) == task) {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a new list of all tasks, in list order.
+     *
+     * @return Tasks in the list.
+     */
+    public List<Task> getTasks() {
+        return new ArrayList<>(userInputHistoryList);
+    }
+
+    /**
+     * Returns a new TaskList starting with the same tasks, in which changes can be
+     * staged and later applied to this list with applyStagedChanges(), or discarded.
+     * Tasks are shared until the staged list marks or unmarks one, which it does to a copy,
+     * so staging costs a copy of the task references and never changes this list.
+     * Listeners are not copied.
+     *
+     * @return Staged list.
+     */
+    public TaskList stageChanges() {
+        TaskList staged = new TaskList(today);
+        staged.userInputHistoryList.addAll(userInputHistoryList);
+        staged.stagedChanges = new ArrayList<>();
+        staged.stagedFromModCount = modCount;
+        return staged;
+    }
+
+    /**
+     * Replaces task at index (n - 1) with a copy of it, so a staged list can
+     * change the task without changing the list it was staged from.
+     * Indexes the staged list has built know the task and not its copy,
+     * so they are dropped, to be built again if used.
+     */
+    private synchronized Task copyBeforeStagedChange(int n) {
+        Task copy = userInputHistoryList.get(n - 1).copy();
+        userInputHistoryList.set(n - 1, copy);
+        listeners.clear();
+        dateIndex = null;
+        bitmapIndex = null;
+        statistics = null;
+        sortedViews.clear();
+        return copy;
+    }
+
+    /**
+     * Makes every change made to staged again to this list, in order,
+     * so this list ends up with the same tasks as staged.
+     * Listeners are only told of the tasks added, removed or changed,
+     * and tasks this list already held stay the same objects.
+     * This list must not have changed since staged was created by its stageChanges().
+     *
+     * @param staged TaskList whose changes are applied.
+     */
+    public void applyStagedChanges(TaskList staged) {
+        assert staged.stagedChanges != null && staged.stagedFromModCount == modCount;
+        for (StagedChange change : staged.stagedChanges) {
+            change.applyTo(this);
+        }
+    }
+
+    /**
+     * Returns the storage form of every task, in list order.
+     *
+     * @return Lines to be written to disk storage.
+     */
+    public List<String> getStorageLines() {
+        List<String> lines = new ArrayList<>(userInputHistoryList.size());
+        for (Task task : userInputHistoryList) {
+            lines.add(task.toString());
+        }
+        return lines;
+    }
+
+    /**
+     * Returns every date from from to to (inclusive) that a task is due
+     * or happens on, mapped to those tasks. Recurring tasks are expanded
+     * within the range only.
+     *
+     * @param from First date of the range.
+     * @param to Last date of the range.
+     * @return Tasks on each date, ordered by date.
+     */
+    public TreeMap<LocalDate, List<Task>> getAgenda(LocalDate from, LocalDate to) {
+        TreeMap<LocalDate, List<Task>> agenda = new TreeMap<>();
+        for (Task task : userInputHistoryList) {
+            for (LocalDate date : task.getDatesBetween(from, to)) {
+                agenda.computeIfAbsent(date, d -> new ArrayList<>()).add(task);
+            }
+        }
+        return agenda;
+    }
+
+    /**
+     * Returns every Event and RecurringTask happening on at least one day
+     * from from to to (inclusive), ordered by first day.
+     * Uses an interval tree, built on first use and kept up to date after.
+     *
+     * @param from First date of the range.
+     * @param to Last date of the range.
+     * @return Events and recurring tasks in the range.
+     */
+    public List<Task> findEventsBetween(LocalDate from, LocalDate to) {
+        List<Task> events = getDateIndex().findOverlapping(from, to);
+        events.removeIf(task -> task instanceof Deadline);
+        return events;
+    }
+
+    /**
+     * Returns new TaskList containing all Tasks that meet every clause,
+     * where a Task meets a clause if it meets any of its conditions:
+     * "#tag", "done:yes" or "done:no", each negated by a leading "!".
+     * Uses bitmaps of each tag, built on first use and kept up to date after.
+     *
+     * @param clauses Clauses of lower case conditions.
+     * @return TaskList of all Tasks found.
+     */
+    public TaskList filterTasks(List<List<String>> clauses) {
+        TaskList matchingTasks = new TaskList();
+        for (Task task : getBitmapIndex().filter(clauses)) {
+            matchingTasks.addTask(task);
+        }
+        return matchingTasks;
+    }
+
+    /**
+     * Returns plan for running query, using whichever index
+     * narrows the tasks to check the most.
+     *
+     * @param query Condition tasks must meet.
+     * @return Plan that can be run and described.
+     */
+    public QueryPlan plan(Query query) {
+        return new QueryPlan(query, query.getAccessPath(this), getBitmapIndex());
+    }
+
+    /**
+     * Returns all tasks sorted in order, tasks with equal keys in list order.
+     * The sorted view is built on first use and kept sorted after,
+     * so later calls only copy it out.
+     *
+     * @param order Order to sort in.
+     * @return Sorted tasks.
+     */
+    public synchronized List<Task> getSortedTasks(SortOrder order) {
+        return getSortedView(order).getTasks();
+    }
+
+    /**
+     * Returns the task at position in order, counting from 0, or null if
+     * there are no more tasks than position. Tasks with equal keys are in list order.
+     * Uses the same sorted view as getSortedTasks(), without copying it.
+     *
+     * @param order Order the tasks are sorted in.
+     * @param position Position of the task in that order.
+     * @return Task at position, or null.
+     */
+    public synchronized Task getSortedTask(SortOrder order, int position) {
+        SortedView view = getSortedView(order);
+        return position >= 0 && position < view.getSize() ? view.getTask(position) : null;
+    }
+
+    private SortedView getSortedView(SortOrder order) {
+        SortedView view = sortedViews.get(order);
+        if (view == null) {
+            view = new SortedView(order);
+            sortedViews.put(order, view);
+            addListener(view);
+        }
+        return view;
+    }
+
+    /**
+     * Returns the noOfTasks tasks not yet done that are due or happen
+     * soonest on or after from, soonest first, with ties in list order.
+     * Keeps only the best noOfTasks seen so far in a heap,
+     * so costs O(n log noOfTasks) rather than a sort of the whole list.
+     *
+     * @param noOfTasks Number of tasks wanted.
+     * @param from Earliest date to consider.
+     * @return Up to noOfTasks tasks with their next date on or after from.
+     */
+    public List<Task> getNextTasks(int noOfTasks, LocalDate from) {
+        PriorityQueue<UpcomingTask> latestFirst = new PriorityQueue<>(Comparator.reverseOrder());
+        for (int i = 0; i < userInputHistoryList.size() && noOfTasks > 0; i++) {
+            Task task = userInputHistoryList.get(i);
+            LocalDate next = task.isDone() ? null : task.getNextDate(from);
+            if (next == null) {
+                continue;
+            }
+            UpcomingTask upcomingTask = new UpcomingTask(task, next, i);
+            if (latestFirst.size() < noOfTasks) {
+                latestFirst.add(upcomingTask);
+            } else if (upcomingTask.compareTo(latestFirst.peek()) < 0) {
+                latestFirst.poll();
+                latestFirst.add(upcomingTask);
+            }
+        }
+        List<UpcomingTask> upcomingTasks = new ArrayList<>(latestFirst);
+        Collections.sort(upcomingTasks);
+        List<Task> nextTasks = new ArrayList<>(upcomingTasks.size());
+        for (UpcomingTask upcomingTask : upcomingTasks) {
+            nextTasks.add(upcomingTask.task);
+        }
+        return nextTasks;
+    }
+
+    /**
+     * Task with its next date and position in the list, ordered soonest first.
+     */
+    private static class UpcomingTask implements Comparable<UpcomingTask> {
+        private final Task task;
+        private final LocalDate date;
+        private final int position;
+
+        private UpcomingTask(Task task, LocalDate date, int position) {
+            this.task = task;
+            this.date = date;
+            this.position = position;
+        }
+
+        @Override
+        public int compareTo(UpcomingTask other) {
+            int comparison = date.compareTo(other.date);
+            return comparison != 0 ? comparison : Integer.compare(position, other.position);
+        }
+    }
+
+    /**
+     * Returns counts of tasks by type, status, due date and completion date.
+     * They are collected on first use and kept up to date after, so later
+     * calls cost nothing however long the list is.
+     *
+     * @return Statistics of the list, updated as it changes.
+     */
+    public synchronized TaskStatistics getStatistics() {
+        if (statistics == null) {
+            statistics = new TaskStatistics();
+            addListener(statistics);
+        }
+        return statistics;
+    }
+
+    /**
+     * Returns index of tags, types, done status and text,
+     * building it on first use.
+     */
+    synchronized BitmapIndex getBitmapIndex() {
+        if (bitmapIndex == null) {
+            bitmapIndex = new BitmapIndex();
+            addListener(bitmapIndex);
+        }
+        return bitmapIndex;
+    }
+
+    /**
+     * Returns index of dates, building it on first use.
+     */
+    synchronized DateIndex getDateIndex() {
+        if (dateIndex == null) {
+            dateIndex = new DateIndex();
+            addListener(dateIndex);
+        }
+        return dateIndex;
+    }
+
+    /**
+     * Returns all Tasks whose description includes text, ignoring case, in list order.
+     * If previous was found in this list for a shorter text contained in text,
+     * and the list has not changed since, only the tasks in previous are checked.
+     * Otherwise candidates come from the trigram index where text is long enough.
+     *
+     * @param text Text to look for in task descriptions.
+     * @param previous Result of an earlier search, or null.
+     * @return Tasks found, to be passed as previous to the next search.
+     */
+    public SearchResult searchTasks(String text, SearchResult previous) {
+        String lowerCaseText = text.toLowerCase();
+        Query query = Query.text(lowerCaseText);
+        List<Task> candidates;
+        if (previous != null && previous.isNarrowableTo(lowerCaseText, this, modCount)) {
+            candidates = previous.getTasks();
+        } else {
+            Query.AccessPath accessPath = query.getAccessPath(this);
+            candidates = accessPath == null
+                    ? userInputHistoryList
+                    : getBitmapIndex().getTasks(accessPath.getCandidates());
+        }
+        List<Task> matchingTasks = new ArrayList<>();
+        for (Task task : candidates) {
+            if (query.matches(task)) {
+                matchingTasks.add(task);
+            }
+        }
+        return new SearchResult(lowerCaseText, matchingTasks, this, modCount, candidates.size());
+    }
+
     /**
      * Returns new TaskList containing
      * all Tasks whose description
@@ -0,0 +1,21 @@
+package tasklist;
+
+import task.Task;
+
+/**
+ * Receives every change made to a TaskList,
+ * so that structures derived from it can be updated
+ * incrementally instead of rescanning the list.
+ */
+public interface TaskListListener {
+    void taskAdded(Task task);
+
+    void taskRemoved(Task task);
+
+    /**
+     * Called after task was marked or unmarked.
+     *
+     * @param task Task whose status changed.
+     */
+    void taskChanged(Task task);
+}
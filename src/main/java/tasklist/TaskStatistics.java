@@ -0,0 +1,169 @@
+package tasklist;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import task.RecurringTask;
+import task.Task;
+
+/**
+ * Running counts of the tasks in a TaskList by type and status,
+ * and per-day counts of tasks due and tasks completed.
+ * Every change to the list updates them in O(1), so they can be
+ * read at any time without scanning the list.
+ * Recurring tasks are not counted as due, and tasks loaded as done from a line
+ * stored without a completion date are not counted as completed on any day.
+ */
+public class TaskStatistics implements TaskListListener {
+    private static final int TOTAL = 0;
+    private static final int DONE = 1;
+    private final Map<Class<?>, int[]> countsByType = new HashMap<>();
+    private final Map<Long, int[]> dueCountsByDay = new HashMap<>();
+    private final Map<Long, Integer> completedCountsByDay = new HashMap<>();
+    private final Map<Task, Long> completionDays = new IdentityHashMap<>();
+    private int noOfTasks = 0;
+    private int noOfDoneTasks = 0;
+
+    TaskStatistics() {
+    }
+
+    @Override
+    public void taskAdded(Task task) {
+        noOfTasks++;
+        countsByType.computeIfAbsent(task.getClass(), type -> new int[2])[TOTAL]++;
+        if (isCountedAsDue(task)) {
+            dueCountsByDay.computeIfAbsent(task.getDate().toEpochDay(), day -> new int[2])[TOTAL]++;
+        }
+        if (task.isDone()) {
+            countAsDone(task, 1);
+        }
+    }
+
+    @Override
+    public void taskRemoved(Task task) {
+        noOfTasks--;
+        countsByType.get(task.getClass())[TOTAL]--;
+        if (task.isDone()) {
+            countAsDone(task, -1);
+        }
+        if (isCountedAsDue(task)) {
+            long dueDay = task.getDate().toEpochDay();
+            if (--dueCountsByDay.get(dueDay)[TOTAL] == 0) {
+                dueCountsByDay.remove(dueDay);
+            }
+        }
+    }
+
+    @Override
+    public void taskChanged(Task task) {
+        countAsDone(task, task.isDone() ? 1 : -1);
+    }
+
+    public int getNoOfTasks() {
+        return noOfTasks;
+    }
+
+    public int getNoOfDoneTasks() {
+        return noOfDoneTasks;
+    }
+
+    /**
+     * Returns number of tasks of exactly the given class.
+     *
+     * @param type Class of task, such as Deadline.class.
+     * @return Number of such tasks.
+     */
+    public int getNoOfTasks(Class<? extends Task> type) {
+        int[] counts = countsByType.get(type);
+        return counts == null ? 0 : counts[TOTAL];
+    }
+
+    /**
+     * Returns number of done tasks of exactly the given class.
+     *
+     * @param type Class of task, such as Deadline.class.
+     * @return Number of such tasks that are done.
+     */
+    public int getNoOfDoneTasks(Class<? extends Task> type) {
+        int[] counts = countsByType.get(type);
+        return counts == null ? 0 : counts[DONE];
+    }
+
+    /**
+     * Returns number of tasks due or starting from from to to (inclusive).
+     *
+     * @param from First date of the range.
+     * @param to Last date of the range.
+     * @return Number of tasks due in the range.
+     */
+    public int getNoOfTasksDueBetween(LocalDate from, LocalDate to) {
+        return sumDueCounts(from, to, TOTAL);
+    }
+
+    /**
+     * Returns number of tasks not yet done that are due or starting
+     * from from to to (inclusive).
+     *
+     * @param from First date of the range.
+     * @param to Last date of the range.
+     * @return Number of open tasks due in the range.
+     */
+    public int getNoOfOpenTasksDueBetween(LocalDate from, LocalDate to) {
+        return sumDueCounts(from, to, TOTAL) - sumDueCounts(from, to, DONE);
+    }
+
+    /**
+     * Returns number of tasks completed from from to to (inclusive).
+     *
+     * @param from First date of the range.
+     * @param to Last date of the range.
+     * @return Number of tasks completed in the range.
+     */
+    public int getNoOfTasksCompletedBetween(LocalDate from, LocalDate to) {
+        int sum = 0;
+        for (long day = from.toEpochDay(); day <= to.toEpochDay(); day++) {
+            sum += completedCountsByDay.getOrDefault(day, 0);
+        }
+        return sum;
+    }
+
+    private int sumDueCounts(LocalDate from, LocalDate to, int column) {
+        int sum = 0;
+        for (long day = from.toEpochDay(); day <= to.toEpochDay(); day++) {
+            int[] counts = dueCountsByDay.get(day);
+            if (counts != null) {
+                sum += counts[column];
+            }
+        }
+        return sum;
+    }
+
+    private static boolean isCountedAsDue(Task task) {
+        return task.getDate() != null && !(task instanceof RecurringTask);
+    }
+
+    /**
+     * Adds change (1 or -1) to every done count of task.
+     */
+    private void countAsDone(Task task, int change) {
+        noOfDoneTasks += change;
+        countsByType.get(task.getClass())[DONE] += change;
+        if (isCountedAsDue(task)) {
+            dueCountsByDay.get(task.getDate().toEpochDay())[DONE] += change;
+        }
+        Long completionDay = change > 0 ? toEpochDay(task.getCompletionDate()) : completionDays.remove(task);
+        if (completionDay == null) {
+            return;
+        }
+        if (change > 0) {
+            completionDays.put(task, completionDay);
+        }
+        completedCountsByDay.merge(completionDay, change, (count, c) -> count + c == 0 ? null : count + c);
+    }
+
+    private static Long toEpochDay(LocalDate date) {
+        return date == null ? null : date.toEpochDay();
+    }
+}
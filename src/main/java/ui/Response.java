@@ -0,0 +1,33 @@
+package ui;
+
+/**
+ * Immutable result of handling one user input.
+ */
+public class Response {
+    private final String message;
+    private final boolean isError;
+
+    /**
+     * Constructor.
+     *
+     * @param message Message to be shown to the user.
+     * @param isError True if the input could not be handled.
+     */
+    public Response(String message, boolean isError) {
+        this.message = message;
+        this.isError = isError;
+    }
+
+    public String getMessage() {
+        return this.message;
+    }
+
+    public boolean isError() {
+        return this.isError;
+    }
+
+    @Override
+    public String toString() {
+        return this.message;
+    }
+}
@@ -1,11 +1,15 @@
 package ui;
 
 /**
- * Deals with interactions with the user
+ * Deals with interactions with the user.
+ * A new UI is used for every user input, so that
+ * inputs handled at the same time do not overwrite
+ * each other's response.
  */
 public class UI {
     private String currentInput;
     private String response;
+    private boolean isError = false;
 
     /**
      * Prints errorMsg,
@@ -15,6 +19,7 @@ public class UI {
      */
     public void showError(String errorMsg) {
         this.response = errorMsg;
+        this.isError = true;
     }
 
     /**
@@ -22,6 +27,7 @@ public class UI {
      */
     public void showLoadingError() {
         this.response = "error loading";
+        this.isError = true;
     }
 
     /**
@@ -31,6 +37,7 @@ public class UI {
      */
     public void showMessage(String msg) {
         this.response = msg;
+        this.isError = false;
     }
 
     /**
@@ -48,15 +55,36 @@ public class UI {
     public void showHelpMessage() {
         String msg = "Hi, it seems you are having trouble using Falcon, "
                 + "\ntry these command: "
-                + "\ntodo\nlist\nevent\ndeadline\nmark\nunmark\nlongdesc\nistoday\nfind. "
+                + "\ntodo\nlist\nevent\ndeadline\nrecur\nmark\nunmark\nlongdesc\nistoday"
+                + "\nagenda\nbusy\nnext\nsort\nfind\nfilter\nstats\nmetrics. "
+                + "\nChain commands with ; to apply all of them or none."
                 + "\nPlease see the user guide for more information on how to use these.";
         this.response = msg;
     }
 
+    /**
+     * Notes below the current response that it only covers
+     * the tasks loaded so far.
+     *
+     * @param noOfTasksLoaded Number of tasks loaded when the response was made.
+     */
+    public void showPartialNote(int noOfTasksLoaded) {
+        this.response += "\n(partial: only " + noOfTasksLoaded + " tasks loaded so far)";
+    }
+
     public String getResponse() {
         return this.response;
     }
 
+    /**
+     * Returns the last message shown as an immutable Response.
+     *
+     * @return Response holding the last message shown.
+     */
+    public Response toResponse() {
+        return new Response(this.response, this.isError);
+    }
+
     public void setCurrentInput(String input) {
         this.currentInput = input;
     }
@@ -0,0 +1,126 @@
+package utility;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps latency histograms of every kind of command handled in this process,
+ * split into time spent parsing the input, executing the command and writing storage.
+ * Execute time does not include storage time.
+ * Histograms can be read with getReport(), or dumped to a file periodically
+ * by starting Duke with -Dduke.metrics.file=path [-Dduke.metrics.period=seconds].
+ */
+public class CommandMetrics {
+    public static final String FILE_PROPERTY = "duke.metrics.file";
+    public static final String PERIOD_PROPERTY = "duke.metrics.period";
+    private static final long DEFAULT_PERIOD_IN_SECONDS = 60;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final String[] PHASE_NAMES = {"parse", "execute", "storage"};
+    private static final int PARSE = 0;
+    private static final int EXECUTE = 1;
+    private static final int STORAGE = 2;
+    private static final Map<String, LatencyHistogram[]> HISTOGRAMS = new ConcurrentHashMap<>();
+    private static ScheduledExecutorService dumpScheduler;
+
+    /**
+     * Records the latencies of one command.
+     *
+     * @param commandName Kind of command, such as MarkCommand.
+     * @param parseNanos Time spent parsing the input.
+     * @param executeNanos Time spent executing the command, not counting storage.
+     * @param storageNanos Time spent writing storage, or -1 if the command cannot write storage.
+     */
+    public static void record(String commandName, long parseNanos, long executeNanos, long storageNanos) {
+        LatencyHistogram[] histograms = HISTOGRAMS.computeIfAbsent(commandName, name -> newHistograms());
+        histograms[PARSE].record(parseNanos);
+        histograms[EXECUTE].record(executeNanos);
+        if (storageNanos >= 0) {
+            histograms[STORAGE].record(storageNanos);
+        }
+    }
+
+    private static LatencyHistogram[] newHistograms() {
+        LatencyHistogram[] histograms = new LatencyHistogram[PHASE_NAMES.length];
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+        return histograms;
+    }
+
+    /**
+     * Returns p50, p99 and max latency of every phase of every kind of command recorded,
+     * one kind of command per line, in alphabetical order.
+     *
+     * @return Report of latencies in milliseconds.
+     */
+    public static String getReport() {
+        if (HISTOGRAMS.isEmpty()) {
+            return "No commands recorded yet";
+        }
+        StringBuilder report = new StringBuilder("Latency in ms as p50/p99/max:");
+        for (Map.Entry<String, LatencyHistogram[]> entry : new TreeMap<>(HISTOGRAMS).entrySet()) {
+            LatencyHistogram[] histograms = entry.getValue();
+            report.append("\n").append(entry.getKey()).append(" x").append(histograms[PARSE].getCount());
+            for (int i = 0; i < histograms.length; i++) {
+                if (histograms[i].getCount() > 0) {
+                    report.append(", ").append(PHASE_NAMES[i]).append(" ")
+                            .append(toMillis(histograms[i].getPercentile(50))).append("/")
+                            .append(toMillis(histograms[i].getPercentile(99))).append("/")
+                            .append(toMillis(histograms[i].getMax()));
+                }
+            }
+        }
+        return report.toString();
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format("%.3f", nanos / NANOS_PER_MILLI);
+    }
+
+    /**
+     * Forgets all latencies recorded so far.
+     */
+    public static void reset() {
+        HISTOGRAMS.clear();
+    }
+
+    /**
+     * Starts writing the report to the file named by the duke.metrics.file
+     * system property every duke.metrics.period seconds, if that property is set.
+     * Does nothing if dumping has already started.
+     */
+    public static synchronized void startDumpingIfRequested() {
+        String file = System.getProperty(FILE_PROPERTY);
+        if (file == null || dumpScheduler != null) {
+            return;
+        }
+        long period = Long.getLong(PERIOD_PROPERTY, DEFAULT_PERIOD_IN_SECONDS);
+        dumpScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "duke-metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dumpScheduler.scheduleAtFixedRate(() -> dump(Path.of(file)), period, period, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Replaces the contents of file with the current report.
+     *
+     * @param file File to write the report to.
+     */
+    public static void dump(Path file) {
+        try {
+            Files.writeString(file, LocalDateTime.now() + "\n" + getReport() + "\n");
+        } catch (IOException e) {
+            System.out.println("IOException: " + e);
+        }
+    }
+}
@@ -3,55 +3,73 @@ package utility;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import command.AddDeadlineCommand;
 import command.AddEventCommand;
+import command.AddRecurringTaskCommand;
 import command.AddTaskCommand;
+import command.AgendaCommand;
+import command.BusyCommand;
 import command.CheckIsTodayCommand;
 import command.Command;
 import command.DeleteTaskCommand;
 import command.ExitCommand;
+import command.FilterCommand;
 import command.FindCommand;
 import command.GetLongDescriptionCommand;
 import command.HelpCommand;
 import command.ListCommand;
 import command.MarkCommand;
+import command.MetricsCommand;
+import command.NextCommand;
+import command.SortCommand;
+import command.StatsCommand;
 import command.UnmarkCommand;
 import exceptions.DukeException;
 import task.Deadline;
 import task.Event;
+import task.RecurringTask;
 import task.Task;
+import tasklist.Query;
+import tasklist.SortOrder;
 
 /**
  * Handles all conversions required in the program.
  */
 public class Parser {
-    private static HashMap<String, Pattern> commandAliasesHashMap = new HashMap<>();
-    private static final int NO_OF_COMMANDS_SUPPORTED = 12;
+    private static final int NO_OF_COMMANDS_SUPPORTED = 20;
+    private static final int DEFAULT_NO_OF_NEXT_TASKS = 10;
+    private static final Map<String, Pattern> COMMAND_ALIASES = makeCommandAliases();
+    private static final Pattern QUERY_CONDITION_PATTERN = Pattern.compile(
+            "!?(type|done|tag|on|before|after|text):.*", Pattern.CASE_INSENSITIVE);
 
     /**
-     * Initializes hashmap which stores Patterns
-     * required to determine String command used.
-     *
+     * Returns map from every command to the Pattern of its aliases,
+     * built once when the class loads so concurrent parses never see it half filled.
      */
-    private static void initialiseCommandAliasesHashMap() {
+    private static Map<String, Pattern> makeCommandAliases() {
         String[] aliasRegexes = {"todo|task|t", "l|list", "deadline|d", "event|e",
                                  "mark|m", "unmark|um", "bye|b|quit|q|exit", "find|f", "longdesc", "istoday",
-                                 "help|h", "delete|remove|r"};
+                                 "help|h", "delete|remove|r", "recur|every|rt", "agenda|a", "busy", "filter",
+                                 "stats", "next|n", "sort", "metrics"};
 
         String[] actualCommands = {"todo", "list", "deadline", "event", "mark",
-                                   "unmark", "bye", "find", "longdesc", "istoday", "help", "delete"};
+                                   "unmark", "bye", "find", "longdesc", "istoday", "help", "delete",
+                                   "recur", "agenda", "busy", "filter", "stats", "next", "sort", "metrics"};
 
-        if (commandAliasesHashMap.isEmpty()) {
-            ArrayList<Pattern> patterns = makePatterns(aliasRegexes);
-            for (int i = 0; i < NO_OF_COMMANDS_SUPPORTED; i++) {
-                commandAliasesHashMap.put(actualCommands[i], patterns.get(i));
-            }
+        ArrayList<Pattern> patterns = makePatterns(aliasRegexes);
+        Map<String, Pattern> commandAliases = new LinkedHashMap<>();
+        for (int i = 0; i < NO_OF_COMMANDS_SUPPORTED; i++) {
+            commandAliases.put(actualCommands[i], patterns.get(i));
         }
+        return Collections.unmodifiableMap(commandAliases);
     }
 
     /**
@@ -89,14 +107,27 @@ public class Parser {
         int index;
         switch (stringCommand) {
         case "todo":
-            Task task = createTask(inputSections);
+            Task task = createTask(withoutTags(inputSections));
+            task.setTags(getTags(inputSections));
             return new AddTaskCommand(task);
         case "event":
-            Event event = createEvent(inputSections);
+            Event event = createEvent(withoutTags(inputSections));
+            event.setTags(getTags(inputSections));
             return new AddEventCommand(event);
         case "deadline":
-            Deadline deadline = createDeadline(inputSections);
+            Deadline deadline = createDeadline(withoutTags(inputSections));
+            deadline.setTags(getTags(inputSections));
             return new AddDeadlineCommand(deadline);
+        case "recur":
+            RecurringTask recurringTask = createRecurringTask(withoutTags(inputSections));
+            recurringTask.setTags(getTags(inputSections));
+            return new AddRecurringTaskCommand(recurringTask);
+        case "filter":
+            return createFilterCommand(withoutPage(inputSections), getListing(inputSections));
+        case "agenda":
+            return createAgendaCommand(inputSections);
+        case "busy":
+            return createBusyCommand(inputSections);
         case "delete":
             index = getIndex(inputSections);
             return new DeleteTaskCommand(index);
@@ -113,14 +144,21 @@ public class Parser {
             index = getIndex(inputSections);
             return new GetLongDescriptionCommand(index);
         case "list":
-            return new ListCommand();
+            return createListCommand(inputSections);
         case "bye":
             return new ExitCommand();
         case "help":
             return new HelpCommand();
+        case "stats":
+            return new StatsCommand();
+        case "metrics":
+            return new MetricsCommand();
+        case "next":
+            return createNextCommand(inputSections);
+        case "sort":
+            return createSortCommand(withoutPage(inputSections), getListing(inputSections));
         case "find":
-            String keyword = getKeyword(inputSections);
-            return new FindCommand(keyword);
+            return createFindCommand(withoutPage(inputSections), getListing(inputSections));
         default:
             String message = "Command invalid. Type help for more information."
                     + stringCommand;
@@ -129,14 +167,134 @@ public class Parser {
     }
 
 
+    /**
+     * Returns ListCommand for "list", "list from-to" or "list page n".
+     */
+    private static ListCommand createListCommand(String[] userInput) throws DukeException {
+        if (userInput.length == 1) {
+            return new ListCommand();
+        }
+        Matcher rangeMatcher = Pattern.compile("(\\d{1,9})-(\\d{1,9})").matcher(userInput[1]);
+        if (userInput.length == 2 && rangeMatcher.matches()) {
+            int from = Integer.parseInt(rangeMatcher.group(1));
+            int to = Integer.parseInt(rangeMatcher.group(2));
+            if (from < 1 || to < from) {
+                throw new DukeException("Invalid range given");
+            }
+            return new ListCommand(from, to);
+        }
+        if (userInput.length == 3 && userInput[1].equalsIgnoreCase("page")
+                && Pattern.matches("\\d{1,7}", userInput[2])) {
+            int page = Integer.parseInt(userInput[2]);
+            if (page < 1) {
+                throw new DukeException("Invalid page given");
+            }
+            return ListCommand.ofPage(page);
+        }
+        throw new DukeException("Use list, list from-to or list page n");
+    }
+
+    /**
+     * Returns ListCommand for the page named by a trailing "page n" in the user input,
+     * or for the first page if there is none, which names the rest of the input
+     * as the command to type for later pages.
+     */
+    private static ListCommand getListing(String[] userInput) throws DukeException {
+        String pagedCommand = String.join(" ", withoutPage(userInput));
+        if (!hasPage(userInput)) {
+            return ListCommand.ofPage(1, pagedCommand);
+        }
+        int page = Integer.parseInt(userInput[userInput.length - 1]);
+        if (page < 1) {
+            throw new DukeException("Invalid page given");
+        }
+        return ListCommand.ofPage(page, pagedCommand);
+    }
+
+    /**
+     * Returns the user input without a trailing "page n".
+     */
+    private static String[] withoutPage(String[] userInput) {
+        return hasPage(userInput) ? Arrays.copyOf(userInput, userInput.length - 2) : userInput;
+    }
+
+    private static boolean hasPage(String[] userInput) {
+        return userInput.length > 2 && userInput[userInput.length - 2].equalsIgnoreCase("page")
+                && Pattern.matches("\\d{1,7}", userInput[userInput.length - 1]);
+    }
+
+    /**
+     * Returns the #tag tokens of the user input.
+     */
+    private static List<String> getTags(String[] userInput) {
+        List<String> tags = new ArrayList<>();
+        for (int i = 1; i < userInput.length; i++) {
+            if (userInput[i].matches(Task.TAG_REGEX)) {
+                tags.add(userInput[i]);
+            }
+        }
+        return tags;
+    }
+
+    /**
+     * Returns the user input with its #tag tokens removed.
+     */
+    private static String[] withoutTags(String[] userInput) {
+        List<String> sections = new ArrayList<>();
+        sections.add(userInput[0]);
+        for (int i = 1; i < userInput.length; i++) {
+            if (!userInput[i].matches(Task.TAG_REGEX)) {
+                sections.add(userInput[i]);
+            }
+        }
+        return sections.toArray(new String[0]);
+    }
+
+    /**
+     * Creates FilterCommand from "filter clause clause ...", where each clause is
+     * one or more conditions joined by |, and each condition is #tag, done:yes
+     * or done:no, optionally negated by a leading !.
+     */
+    private static FilterCommand createFilterCommand(String[] userInput, ListCommand listing)
+            throws DukeException {
+        if (userInput.length < 2) {
+            throw new DukeException("Give tags to filter by, e.g. filter #work|#home !#urgent done:no");
+        }
+        Pattern conditionPattern = Pattern.compile("!?(" + Task.TAG_REGEX + "|done:(yes|no))",
+                Pattern.CASE_INSENSITIVE);
+        List<List<String>> clauses = new ArrayList<>();
+        for (int i = 1; i < userInput.length; i++) {
+            if (userInput[i].isEmpty()) {
+                continue;
+            }
+            List<String> clause = new ArrayList<>();
+            for (String condition : userInput[i].split("\\|", -1)) {
+                if (!conditionPattern.matcher(condition).matches()) {
+                    throw new DukeException("Invalid filter condition: " + condition);
+                }
+                clause.add(condition.toLowerCase());
+            }
+            clauses.add(clause);
+        }
+        return new FilterCommand(clauses, listing);
+    }
+
     private static Task createTask(String[] userInput) throws DukeException {
         String description = getTaskDescription(userInput);
         Task task = new Task(description);
         return task;
     }
 
+    /**
+     * Returns true if givenIndex is the index of a task
+     * in a list of maxIndex tasks, counting from 1.
+     *
+     * @param givenIndex Index given by the user.
+     * @param maxIndex Number of tasks in the list.
+     * @return true if 1 <= givenIndex <= maxIndex.
+     */
     public static boolean isValidIndex(int givenIndex, int maxIndex) {
-        return givenIndex <= maxIndex;
+        return givenIndex >= 1 && givenIndex <= maxIndex;
     }
 
     private static String getTaskDescription(String[] userInput) throws DukeException {
@@ -159,8 +317,27 @@ public class Parser {
     private static Event createEvent(String[] userInput) throws DukeException {
         String description = getEventDescription(userInput);
         LocalDate date = getEventDate(userInput);
-        Event event = new Event(description, date);
-        return event;
+        LocalDate endDate = getEventEndDate(userInput);
+        if (endDate == null) {
+            return new Event(description, date);
+        }
+        if (endDate.isBefore(date)) {
+            throw new DukeException("Event cannot end before it starts");
+        }
+        return new Event(description, date, endDate);
+    }
+
+    /**
+     * Returns date given right after the event date, or null
+     * if the event lasts one day.
+     */
+    private static LocalDate getEventEndDate(String[] userInput) throws DukeException {
+        int indexOfEndDate = getStartOfDate(userInput) + 1;
+        if (indexOfEndDate >= userInput.length
+                || !Pattern.matches("\\d\\d\\d\\d-\\d\\d-\\d\\d", userInput[indexOfEndDate])) {
+            return null;
+        }
+        return parseDate(userInput[indexOfEndDate]);
     }
 
     private static String getEventDescription(String[] userInput) throws DukeException {
@@ -214,13 +391,99 @@ public class Parser {
         return getEventDate(userInput);
     }
 
+    /**
+     * Creates RecurringTask from "recur description frequency start [until]".
+     */
+    private static RecurringTask createRecurringTask(String[] userInput) throws DukeException {
+        int indexOfFrequency = getIndexOfFrequency(userInput);
+        String description = getStringBetweenIndices(1, indexOfFrequency, userInput);
+        if (description.equals("")) {
+            throw new DukeException("Empty description not allowed");
+        }
+        int noOfDates = userInput.length - indexOfFrequency - 1;
+        if (noOfDates < 1 || noOfDates > 2) {
+            throw new DukeException("Give a start date and optionally an end date");
+        }
+        RecurringTask.Frequency frequency =
+                RecurringTask.Frequency.valueOf(userInput[indexOfFrequency].toUpperCase());
+        LocalDate start = parseDate(userInput[indexOfFrequency + 1]);
+        LocalDate until = noOfDates == 2 ? parseDate(userInput[indexOfFrequency + 2]) : null;
+        if (until != null && until.isBefore(start)) {
+            throw new DukeException("End date cannot be before start date");
+        }
+        return new RecurringTask(description, frequency, start, until);
+    }
+
+    private static int getIndexOfFrequency(String[] userInput) throws DukeException {
+        for (int i = 1; i < userInput.length; i++) {
+            if (Pattern.matches("(?i)daily|weekly|monthly", userInput[i])) {
+                return i;
+            }
+        }
+        throw new DukeException("Give how often it happens: daily, weekly or monthly");
+    }
+
+    private static AgendaCommand createAgendaCommand(String[] userInput) throws DukeException {
+        if (userInput.length != 3) {
+            throw new DukeException("Give the first and last date, e.g. agenda 2022-10-01 2022-10-31");
+        }
+        LocalDate from = parseDate(userInput[1]);
+        LocalDate to = parseDate(userInput[2]);
+        if (to.isBefore(from)) {
+            throw new DukeException("Last date cannot be before first date");
+        }
+        return new AgendaCommand(from, to);
+    }
+
+    private static BusyCommand createBusyCommand(String[] userInput) throws DukeException {
+        if (userInput.length != 2 && userInput.length != 3) {
+            throw new DukeException("Give a date or a first and last date, e.g. busy 2022-10-01 2022-10-07");
+        }
+        LocalDate from = parseDate(userInput[1]);
+        LocalDate to = userInput.length == 3 ? parseDate(userInput[2]) : from;
+        if (to.isBefore(from)) {
+            throw new DukeException("Last date cannot be before first date");
+        }
+        return new BusyCommand(from, to);
+    }
+
+    private static NextCommand createNextCommand(String[] userInput) throws DukeException {
+        if (userInput.length == 1) {
+            return new NextCommand(DEFAULT_NO_OF_NEXT_TASKS);
+        }
+        if (userInput.length != 2 || !Pattern.matches("\\d{1,9}", userInput[1])) {
+            throw new DukeException("Give how many tasks to show, e.g. next 10");
+        }
+        return new NextCommand(Integer.parseInt(userInput[1]));
+    }
+
+    /**
+     * Returns SortCommand for "sort by date|status|type", where "by" may be left out.
+     */
+    private static SortCommand createSortCommand(String[] userInput, ListCommand listing) throws DukeException {
+        int indexOfOrder = userInput.length > 1 && userInput[1].equalsIgnoreCase("by") ? 2 : 1;
+        if (userInput.length != indexOfOrder + 1
+                || !Pattern.matches("(?i)date|status|type", userInput[indexOfOrder])) {
+            throw new DukeException("Use sort by date, sort by status or sort by type");
+        }
+        return new SortCommand(SortOrder.valueOf(userInput[indexOfOrder].toUpperCase()), listing);
+    }
+
+    private static LocalDate parseDate(String date) throws DukeException {
+        try {
+            return LocalDate.parse(date);
+        } catch (DateTimeParseException dtpe) {
+            throw new DukeException("Invalid date given");
+        }
+    }
+
     private static int getIndex(String[] userInput) throws DukeException {
         return findIntInStringArray(userInput);
     }
 
 
     private static int findIntInStringArray(String[] array) throws DukeException {
-        String intRegex = "\\d*";
+        String intRegex = "\\d{1,9}";
         for (String s: array) {
             if (Pattern.matches(intRegex, s)) {
                 return Integer.parseInt(s);
@@ -229,6 +492,99 @@ public class Parser {
         throw new DukeException("Invalid index given");
     }
 
+    /**
+     * Returns FindCommand for "find keyword", or for "find [explain] term term ..."
+     * if any term starts with a known field, as in type:, done:, tag:, on:, before:, after: or text:.
+     * Terms are ANDed, alternatives joined by | are ORed and a leading ! negates an alternative.
+     * A word without a known field, such as 10:30, is looked for in descriptions.
+     */
+    private static FindCommand createFindCommand(String[] userInput, ListCommand listing) throws DukeException {
+        boolean isExplained = userInput.length > 1 && userInput[1].equalsIgnoreCase("explain");
+        int startOfTerms = isExplained ? 2 : 1;
+        boolean isQuery = isExplained;
+        for (int i = startOfTerms; i < userInput.length; i++) {
+            isQuery |= QUERY_CONDITION_PATTERN.matcher(userInput[i]).matches();
+        }
+        if (!isQuery) {
+            return new FindCommand(Query.text(getKeyword(userInput)), false, listing);
+        }
+        List<Query> terms = new ArrayList<>();
+        for (int i = startOfTerms; i < userInput.length; i++) {
+            if (userInput[i].isEmpty()) {
+                continue;
+            }
+            List<Query> alternatives = new ArrayList<>();
+            String field = null;
+            for (String alternative : userInput[i].split("\\|", -1)) {
+                String condition = alternative.startsWith("!") ? alternative.substring(1) : alternative;
+                if (QUERY_CONDITION_PATTERN.matcher(condition).matches()) {
+                    field = condition.substring(0, condition.indexOf(':') + 1);
+                } else if (field != null) {
+                    // type:deadline|event means type:deadline|type:event
+                    alternative = alternative.replace(condition, field + condition);
+                }
+                alternatives.add(createQueryCondition(alternative));
+            }
+            terms.add(Query.or(alternatives));
+        }
+        if (terms.isEmpty()) {
+            throw new DukeException("Give something to find, e.g. find explain type:deadline done:no");
+        }
+        return new FindCommand(Query.and(terms), isExplained, listing);
+    }
+
+    private static Query createQueryCondition(String condition) throws DukeException {
+        if (condition.startsWith("!")) {
+            return Query.not(createQueryCondition(condition.substring(1)));
+        }
+        if (!QUERY_CONDITION_PATTERN.matcher(condition).matches()) {
+            return Query.text(condition);
+        }
+        int indexOfColon = condition.indexOf(':');
+        String field = condition.substring(0, indexOfColon).toLowerCase();
+        String value = condition.substring(indexOfColon + 1);
+        switch (field) {
+        case "type":
+            return createTypeCondition(value);
+        case "done":
+            if (!value.matches("(?i)yes|no")) {
+                throw new DukeException("Use done:yes or done:no");
+            }
+            return Query.done(value.equalsIgnoreCase("yes"));
+        case "tag":
+            return Query.tag(value.startsWith("#") ? value.substring(1) : value);
+        case "text":
+            if (value.isEmpty()) {
+                throw new DukeException("Give text to look for after text:");
+            }
+            return Query.text(value);
+        case "before":
+            return Query.before(parseDate(value));
+        case "after":
+            return Query.after(parseDate(value));
+        case "on":
+            return Query.on(parseDate(value));
+        default:
+            throw new DukeException("Unknown condition " + condition
+                    + ", use type, done, tag, text, before, after or on");
+        }
+    }
+
+    private static Query createTypeCondition(String type) throws DukeException {
+        switch (type.toLowerCase()) {
+        case "todo":
+            return Query.type(Task.class, "todo");
+        case "deadline":
+            return Query.type(Deadline.class, "deadline");
+        case "event":
+            return Query.type(Event.class, "event");
+        case "recur":
+            return Query.type(RecurringTask.class, "recur");
+        default:
+            throw new DukeException("Unknown type " + type + ", use todo, deadline, event or recur");
+        }
+    }
+
     private static String getKeyword(String[] userInput) {
         String keyword = getStringBetweenIndices(1, userInput.length, userInput);
         return keyword;
@@ -243,10 +599,8 @@ public class Parser {
      * @return Formal format of command.
      */
     private static String extractCommand(String command) {
-        // Make sure commandAliases are not empty
-        initialiseCommandAliasesHashMap();
         Matcher matcher;
-        for (Map.Entry<String, Pattern> patternAndString : commandAliasesHashMap.entrySet()) {
+        for (Map.Entry<String, Pattern> patternAndString : COMMAND_ALIASES.entrySet()) {
             matcher = patternAndString.getValue().matcher(command);
             if (matcher.matches()) {
                 return patternAndString.getKey();
@@ -2,11 +2,14 @@ package utility;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import exceptions.DukeException;
 import task.Deadline;
 import task.Event;
+import task.RecurringTask;
 import task.Task;
 
 /**
@@ -21,16 +24,48 @@ public class StorageParser {
     private static final String START_OF_DATE_STRING = ": ";
     private static final int START_OF_DATE_STRING_OFFSET = 2;
     private static final int DATE_LENGTH = 10;
+    private static final String START_OF_END_DATE_STRING = " to: ";
     private static final int INDEX_OF_TYPE_CHAR = 1;
     private static final char VALID_MARK_SYMBOL = '1';
+    private static final Pattern TRAILING_TAGS_PATTERN = Pattern.compile("(?: " + Task.TAG_REGEX + ")+$");
+    private static final Pattern COMPLETION_DATE_PATTERN = Pattern.compile(" \\(done: (\\S+)\\)$");
+    private static final Pattern RECURRENCE_RULE_PATTERN = Pattern.compile(
+            " \\(every: (daily|weekly|monthly) from: (\\S+)(?: until: (\\S+))?\\)$");
 
     /**
      * Converts line in disk file to corresponding Task.
+     * Tags are stored as " #tag" tokens at the end of the line,
+     * after the completion date of a done task, stored as " (done: yyyy-mm-dd)".
+     * Done tasks stored without a completion date are loaded with none.
      *
      * @param line String stored in file.
      * @return Task object.
      */
     public static Task fileLineToTask(String line) {
+        Matcher tagsMatcher = TRAILING_TAGS_PATTERN.matcher(line);
+        if (!tagsMatcher.find()) {
+            return lineWithoutTagsToTask(line);
+        }
+        Task t = lineWithoutTagsToTask(line.substring(0, tagsMatcher.start()));
+        if (t != null) {
+            t.setTags(Arrays.asList(tagsMatcher.group().trim().split(" ")));
+        }
+        return t;
+    }
+
+    private static Task lineWithoutTagsToTask(String line) {
+        Matcher completionMatcher = COMPLETION_DATE_PATTERN.matcher(line);
+        try {
+            if (completionMatcher.find() && isTaskMarked(line)) {
+                return lineToTask(line.substring(0, completionMatcher.start()), getDate(completionMatcher.group(1)));
+            }
+            return lineToTask(line, null);
+        } catch (DukeException de) {
+            return null;
+        }
+    }
+
+    private static Task lineToTask(String line, LocalDate completionDate) {
         try {
             char type = typeOfRecord(line);
             boolean isMarked = isTaskMarked(line);
@@ -39,21 +74,26 @@ public class StorageParser {
             switch (type) {
             case 'T':
                 String taskDescription = getTaskDescription(line);
-                t = createTask(taskDescription, isMarked);
+                t = stringToTask(taskDescription);
                 break;
             case 'D':
                 dateAndDescription = getDateAndDescription(line);
-                t = createDeadline(dateAndDescription[DESCRIPTION],
-                        dateAndDescription[DATE], isMarked);
+                t = stringToDeadline(dateAndDescription[DESCRIPTION], dateAndDescription[DATE]);
                 break;
             case 'E':
                 dateAndDescription = getDateAndDescription(line);
                 t = createEvent(dateAndDescription[DESCRIPTION],
-                        dateAndDescription[DATE], isMarked);
+                        dateAndDescription[DATE], getEndDate(line));
+                break;
+            case 'R':
+                t = createRecurringTask(line);
                 break;
             default:
                 // do nothing
             }
+            if (t != null && isMarked) {
+                t.markAsDone(completionDate);
+            }
             return t;
         } catch (DukeException de) {
             return null;
@@ -76,7 +116,7 @@ public class StorageParser {
 
     private static char typeOfRecord(String record) throws DukeException {
         try {
-            String regex = "\\[[T,E,D]\\]";
+            String regex = "\\[[T,E,D,R]\\]";
             Pattern p = Pattern.compile(regex, Pattern.CASE_INSENSITIVE);
             String typeSectionString = record.substring(0, 3);
             boolean isValidFormat = p.matcher(typeSectionString).matches();
@@ -96,46 +136,69 @@ public class StorageParser {
             throw new DukeException("Corrupt line");
         }
     }
-    private static Task createTask(String description, boolean isMarked)
-            throws DukeException {
-        Task task = stringToTask(description);
-        if (isMarked) {
-            task.markAsDone();
-        }
-        return task;
+
+    private static Event createEvent(String description, String date, String endDate) throws DukeException {
+        return endDate == null
+                ? stringToEvent(description, date)
+                : stringToEvent(description, date, endDate);
     }
-    private static Deadline createDeadline(String description, String date, boolean isMarked)
-            throws DukeException {
-        Deadline deadline = stringToDeadline(description, date);
-        if (isMarked) {
-            deadline.markAsDone();
+
+
+    /**
+     * Creates RecurringTask from a line of the form
+     * "[R][ ] description (every: weekly from: 2022-10-10 until: 2022-12-31)",
+     * where the until part is optional.
+     */
+    private static RecurringTask createRecurringTask(String line) throws DukeException {
+        Matcher ruleMatcher = RECURRENCE_RULE_PATTERN.matcher(line);
+        if (!ruleMatcher.find() || ruleMatcher.start() < START_OF_DESCRIPTION_IN_TASK) {
+            throw new DukeException("Corrupt line");
         }
-        return deadline;
+        String description = line.substring(START_OF_DESCRIPTION_IN_TASK, ruleMatcher.start());
+        RecurringTask.Frequency frequency = RecurringTask.Frequency.valueOf(ruleMatcher.group(1).toUpperCase());
+        LocalDate start = getDate(ruleMatcher.group(2));
+        LocalDate until = ruleMatcher.group(3) == null ? null : getDate(ruleMatcher.group(3));
+        if (until != null && until.isBefore(start)) {
+            throw new DukeException("Corrupt line");
+        }
+        return new RecurringTask(description, frequency, start, until);
     }
 
-    private static Event createEvent(String description, String date, boolean isMarked)
-            throws DukeException {
-        Event event = stringToEvent(description, date);
-        if (isMarked) {
-            event.markAsDone();
+    /**
+     * Returns end date of a multi-day event line such as
+     * "[E][ ] description (at: 2022-10-10 to: 2022-10-12)",
+     * or null if the event lasts one day.
+     */
+    private static String getEndDate(String line) throws DukeException {
+        int startDateIndex = line.indexOf(START_OF_DATE_STRING);
+        int endDateIndex = line.indexOf(START_OF_END_DATE_STRING, startDateIndex);
+        if (startDateIndex < 0 || endDateIndex < 0) {
+            return null;
+        }
+        int startOfEndDate = endDateIndex + START_OF_END_DATE_STRING.length();
+        if (line.length() < startOfEndDate + DATE_LENGTH) {
+            throw new DukeException("Corrupt line");
         }
-        return event;
+        return line.substring(startOfEndDate, startOfEndDate + DATE_LENGTH);
     }
 
-
-    private static String[] getDateAndDescription(String line) {
-        String[] dateAndDescription = new String[2];
-        int endOfDescriptionIndex = line.indexOf(END_OF_DESCRIPTION_STRING);
-        String description = line.substring(START_OF_DESCRIPTION_IN_TASK,
-                endOfDescriptionIndex);
-        int startDate = line.indexOf(START_OF_DATE_STRING)
-                + START_OF_DATE_STRING_OFFSET;
-        int endDate = startDate + DATE_LENGTH;
-        String date = line.substring(startDate,
-                endDate);
-        dateAndDescription[DATE] = date;
-        dateAndDescription[DESCRIPTION] = description;
-        return dateAndDescription;
+    private static String[] getDateAndDescription(String line) throws DukeException {
+        try {
+            String[] dateAndDescription = new String[2];
+            int endOfDescriptionIndex = line.indexOf(END_OF_DESCRIPTION_STRING);
+            String description = line.substring(START_OF_DESCRIPTION_IN_TASK,
+                    endOfDescriptionIndex);
+            int startDate = line.indexOf(START_OF_DATE_STRING)
+                    + START_OF_DATE_STRING_OFFSET;
+            int endDate = startDate + DATE_LENGTH;
+            String date = line.substring(startDate,
+                    endDate);
+            dateAndDescription[DATE] = date;
+            dateAndDescription[DESCRIPTION] = description;
+            return dateAndDescription;
+        } catch (StringIndexOutOfBoundsException sioobe) {
+            throw new DukeException("Corrupt line");
+        }
     }
 
     /**
@@ -163,6 +226,24 @@ public class StorageParser {
         return new Event(description, localDate);
     }
 
+    /**
+     * Returns event spanning several days.
+     *
+     * @param description description
+     * @param date first day
+     * @param endDate last day
+     * @return event
+     * @throws DukeException when a date is invalid or endDate is before date.
+     */
+    public static Event stringToEvent(String description, String date, String endDate) throws DukeException {
+        LocalDate localDate = getDate(date);
+        LocalDate localEndDate = getDate(endDate);
+        if (localEndDate.isBefore(localDate)) {
+            throw new DukeException("Event cannot end before it starts");
+        }
+        return new Event(description, localDate, localEndDate);
+    }
+
     /**
      * Return deadline
      *
@@ -0,0 +1,150 @@
+package utility;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Provides today's date without reading a Clock on every call.
+ * The current epoch day is cached, and calls reading it read the clock again
+ * at most once every CHECK_PERIOD_MILLIS. Once a rollover listener is registered, the clock
+ * is also read by a timer at local midnight and every TICK_SECONDS, so the date
+ * catches up soon after the system wakes from suspend even if midnight passed meanwhile.
+ * Task lists and reminders are given the TodayClock to use, such as SYSTEM,
+ * or one reading a fixed Clock in tests.
+ */
+public class TodayClock {
+    /** Today's date in the system's time zone. */
+    public static final TodayClock SYSTEM = new TodayClock(Clock.systemDefaultZone());
+    private static final long CHECK_PERIOD_MILLIS = 1000;
+    private static final long TICK_SECONDS = 60;
+    private static final ScheduledExecutorService ROLLOVER_SCHEDULER = Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+                Thread thread = new Thread(runnable, "duke-today-clock");
+                thread.setDaemon(true);
+                return thread;
+            });
+    private final List<Runnable> rolloverListeners = new CopyOnWriteArrayList<>();
+    private final Clock clock;
+    private volatile long epochDay;
+    private volatile long lastCheckNanos;
+    private ScheduledFuture<?> tick;
+    private ScheduledFuture<?> nextMidnight;
+
+    /**
+     * Constructor.
+     *
+     * @param clock Clock to read today's date from.
+     */
+    public TodayClock(Clock clock) {
+        this.clock = clock;
+        update();
+    }
+
+    /**
+     * Returns today's date as days since 1970-01-01.
+     * If the date has changed since it was last read, rollover listeners are run on the clock's own thread.
+     *
+     * @return Today's epoch day.
+     */
+    public long getEpochDay() {
+        if (System.nanoTime() - lastCheckNanos > TimeUnit.MILLISECONDS.toNanos(CHECK_PERIOD_MILLIS) && update()) {
+            ROLLOVER_SCHEDULER.execute(this::rollOver);
+        }
+        return epochDay;
+    }
+
+    /**
+     * Returns today's date.
+     *
+     * @return Today's date.
+     */
+    public LocalDate getDate() {
+        return LocalDate.ofEpochDay(getEpochDay());
+    }
+
+    /**
+     * Registers listener to be run every time the date changes,
+     * and starts the timers checking for that if they have not started.
+     * Listeners run on the clock's own thread, one at a time.
+     *
+     * @param listener Listener to run.
+     */
+    public synchronized void addRolloverListener(Runnable listener) {
+        rolloverListeners.add(listener);
+        if (tick == null) {
+            tick = ROLLOVER_SCHEDULER.scheduleAtFixedRate(this::refresh, TICK_SECONDS, TICK_SECONDS, TimeUnit.SECONDS);
+            scheduleNextMidnight();
+        }
+    }
+
+    /**
+     * Reads today's date from the clock, and rolls over if it has changed.
+     * Runs on the clock's own thread.
+     */
+    private void refresh() {
+        if (update()) {
+            rollOver();
+        }
+    }
+
+    /**
+     * Reads today's date from the clock at midnight, and rolls over if it has changed.
+     * The timer may go off a little early, so the next midnight is scheduled either way.
+     */
+    private void refreshAtMidnight() {
+        if (update()) {
+            rollOver();
+        } else {
+            scheduleNextMidnight();
+        }
+    }
+
+    /**
+     * Reads today's date from the clock.
+     *
+     * @return true if the date has changed since it was last read.
+     */
+    private synchronized boolean update() {
+        long previousEpochDay = epochDay;
+        epochDay = LocalDate.now(clock).toEpochDay();
+        lastCheckNanos = System.nanoTime();
+        return previousEpochDay != epochDay;
+    }
+
+    /**
+     * Schedules the timer for the midnight after the new date if timers have started,
+     * then runs rollover listeners, without holding the lock so they may read the date.
+     * Runs on the clock's own thread.
+     */
+    private void rollOver() {
+        synchronized (this) {
+            if (tick != null) {
+                scheduleNextMidnight();
+            }
+        }
+        runRolloverListeners();
+    }
+
+    private synchronized void scheduleNextMidnight() {
+        if (nextMidnight != null) {
+            nextMidnight.cancel(false);
+        }
+        Duration untilMidnight = Duration.between(clock.instant(),
+                LocalDate.ofEpochDay(epochDay).plusDays(1).atStartOfDay(clock.getZone()));
+        nextMidnight = ROLLOVER_SCHEDULER.schedule(this::refreshAtMidnight,
+                Math.max(untilMidnight.toMillis(), 0), TimeUnit.MILLISECONDS);
+    }
+
+    private void runRolloverListeners() {
+        for (Runnable listener : rolloverListeners) {
+            listener.run();
+        }
+    }
+}
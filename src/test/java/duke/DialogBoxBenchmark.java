@@ -0,0 +1,79 @@
+package duke;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.image.Image;
+
+/**
+ * Measures how long it takes to build the dialog box for one chat message,
+ * against parsing the equivalent FXML for every message as was done before.
+ * Run with gradle benchmarkDialogs; needs a display for JavaFX.
+ */
+public class DialogBoxBenchmark {
+    private static final String DIALOG_BOX_FXML = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<?import javafx.geometry.Insets?>\n"
+            + "<?import javafx.scene.control.Label?>\n"
+            + "<?import javafx.scene.image.ImageView?>\n"
+            + "<?import javafx.scene.layout.HBox?>\n"
+            + "<?import javafx.scene.text.Font?>\n"
+            + "<HBox alignment=\"TOP_RIGHT\" maxWidth=\"1.7976931348623157E308\" prefWidth=\"400.0\""
+            + " style=\"-fx-background-color: pink;\" xmlns:fx=\"http://javafx.com/fxml/1\">\n"
+            + "  <children>\n"
+            + "    <Label maxHeight=\"-Infinity\" maxWidth=\"-Infinity\" minHeight=\"-Infinity\""
+            + " minWidth=\"-Infinity\" text=\"message\" wrapText=\"true\">\n"
+            + "      <font><Font name=\"Comic Sans MS\" size=\"15.0\" /></font>\n"
+            + "    </Label>\n"
+            + "    <ImageView fitHeight=\"99.0\" fitWidth=\"99.0\" pickOnBounds=\"true\" preserveRatio=\"true\" />\n"
+            + "  </children>\n"
+            + "  <padding><Insets bottom=\"15.0\" left=\"5.0\" right=\"5.0\" top=\"15.0\" /></padding>\n"
+            + "</HBox>\n";
+
+    public static void main(String[] args) throws InterruptedException {
+        CountDownLatch isFinished = new CountDownLatch(1);
+        Platform.startup(() -> {
+            try {
+                runBenchmarks();
+            } finally {
+                isFinished.countDown();
+            }
+        });
+        isFinished.await();
+        Platform.exit();
+    }
+
+    private static void runBenchmarks() {
+        Image falconImage = ResourceCache.getImage(ResourceCache.FALCON_IMAGE, DialogBox.PICTURE_SIZE);
+        measure("Built in code", 20000, 100000, () -> DialogBoxFalcon.getFalconDialog("message", falconImage));
+        measure("Parsed from FXML", 500, 2000, DialogBoxBenchmark::loadFromFxml);
+    }
+
+    private static Object loadFromFxml() {
+        try {
+            byte[] fxml = DIALOG_BOX_FXML.getBytes(StandardCharsets.UTF_8);
+            return new FXMLLoader().load(new ByteArrayInputStream(fxml));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void measure(String name, int warmUpRounds, int rounds, Supplier<Object> createDialogBox) {
+        Object lastDialogBox = null;
+        for (int i = 0; i < warmUpRounds; i++) {
+            lastDialogBox = createDialogBox.get();
+        }
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            lastDialogBox = createDialogBox.get();
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        assert lastDialogBox != null;
+        System.out.printf("%s: %.2f us per dialog box (%d boxes)%n", name, elapsedNanos / 1000.0 / rounds, rounds);
+    }
+}
@@ -1,4 +1,55 @@
 package duke;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import storage.Storage;
+import task.Task;
+import tasklist.TaskList;
+
 public class DukeTest {
+
+    @Test
+    public void respond_loadingFailedPartway_changesRefusedAndFileKept() throws Exception {
+        String filePath = "src/test/java/data/testFile.txt";
+        Storage storage = new Storage(filePath);
+        TaskList saved = new TaskList();
+        for (int i = 0; i < 1000; i++) {
+            saved.addTask(new Task("t" + i));
+        }
+        ByteArrayOutputStream contents = new ByteArrayOutputStream();
+        contents.write(String.join("\n", saved.getStorageLines()).getBytes(StandardCharsets.UTF_8));
+        contents.write(new byte[] {'\n', (byte) 0xFF, '\n'});
+        contents.write(String.join("\n", saved.getStorageLines()).getBytes(StandardCharsets.UTF_8));
+        Path file = storage.getFilePath();
+        Files.write(file, contents.toByteArray());
+
+        try {
+            CountDownLatch loaded = new CountDownLatch(1);
+            Duke duke = new Duke(filePath, percentLoaded -> {
+                if (percentLoaded == 100) {
+                    loaded.countDown();
+                }
+            });
+            assertTrue(loaded.await(10, TimeUnit.SECONDS));
+
+            assertTrue(duke.respond("todo lost").isError());
+            assertTrue(duke.respond("delete 1").isError());
+            assertTrue(duke.respond("todo a; todo b").isError());
+            assertFalse(duke.respond("list 1-1").isError());
+            assertEquals(contents.size(), Files.readAllBytes(file).length);
+        } finally {
+            storage.isTaskListRewritten(new TaskList());
+        }
+    }
 }
@@ -0,0 +1,63 @@
+package reminder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import exceptions.DukeException;
+import task.Deadline;
+import task.Event;
+import task.Task;
+import tasklist.TaskList;
+import utility.TodayClock;
+
+public class ReminderSchedulerTest {
+    private final List<String> notices = new ArrayList<>();
+    private final LocalDate today = LocalDate.of(2022, 10, 10);
+    private final TodayClock todayClock = new TodayClock(
+            Clock.fixed(today.atStartOfDay(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault()));
+    private final ReminderScheduler reminders = new ReminderScheduler(todayClock, notices::add);
+
+    @Test
+    public void fireDueReminders_taskDueToday_noticeSent() {
+        TaskList tl = new TaskList(todayClock);
+        tl.addTask(new Deadline("dueToday", today));
+        tl.addTask(new Event("tomorrow", today.plusDays(1)));
+        tl.addTask(new Task("undated"));
+        tl.addListener(reminders);
+        assertEquals(2, reminders.getSize());
+
+        reminders.fireDueReminders();
+        assertEquals(1, notices.size());
+        assertTrue(notices.get(0).contains("dueToday"));
+        assertEquals(1, reminders.getSize());
+
+        reminders.fireDueReminders();
+        assertEquals(1, notices.size());
+    }
+
+    @Test
+    public void taskListChanges_markedOrDeleted_reminderCancelled() throws DukeException {
+        TaskList tl = new TaskList(todayClock);
+        tl.addListener(reminders);
+        tl.addTask(new Deadline("d1", today));
+        tl.addTask(new Deadline("d2", today));
+        assertEquals(2, reminders.getSize());
+
+        tl.markTask(1);
+        tl.deleteTask(2);
+        assertEquals(0, reminders.getSize());
+
+        tl.unmarkTask(1);
+        reminders.fireDueReminders();
+        assertEquals(1, notices.size());
+        assertTrue(notices.get(0).contains("d1"));
+    }
+}
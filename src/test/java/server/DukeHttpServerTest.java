@@ -0,0 +1,99 @@
+package server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import duke.Duke;
+
+public class DukeHttpServerTest {
+    private static final int NO_OF_CLIENTS = 16;
+    private static final int REQUESTS_PER_CLIENT = 250;
+    private static final int WARM_UP_REQUESTS = 2000;
+
+    private DukeHttpServer server;
+    private HttpClient client = HttpClient.newHttpClient();
+
+    @BeforeEach
+    public void startServer() throws Exception {
+        server = new DukeHttpServer(new Duke("src/test/java/data/serverTestFile.txt"), 0);
+        server.start();
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.stop();
+    }
+
+    private HttpResponse<String> send(String method, String pathAndQuery) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + server.getPort() + pathAndQuery))
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    public void add_thenListAndDelete_taskAddedAndRemoved() throws Exception {
+        assertEquals(200, send("POST", "/add?type=todo&description=httpTask").statusCode());
+        HttpResponse<String> list = send("GET", "/find?keyword=httpTask");
+        assertTrue(list.body().contains("[T][ ] httpTask"));
+
+        String total = send("GET", "/list").body().replaceAll(".*Total: (\\d+).*", "$1");
+        assertEquals(200, send("POST", "/delete?index=" + total).statusCode());
+        assertFalse(send("GET", "/find?keyword=httpTask").body().contains("httpTask\\n"));
+    }
+
+    @Test
+    public void requests_invalidInput_badRequestReturned() throws Exception {
+        assertEquals(405, send("GET", "/mark?index=1").statusCode());
+        assertEquals(400, send("POST", "/mark").statusCode());
+        assertEquals(400, send("POST", "/add?type=todo&description=a%3Bdelete%201").statusCode());
+        assertEquals(400, send("POST", "/add?type=event&description=e&date=notADate").statusCode());
+        assertEquals(400, send("POST", "/mark?index=0").statusCode());
+        assertEquals(400, send("POST", "/delete?index=0").statusCode());
+        HttpResponse<String> outOfRange = send("POST", "/mark?index=99999999999");
+        assertEquals(400, outOfRange.statusCode());
+        assertTrue(outOfRange.body().startsWith("{\"error\":true"));
+    }
+
+    @Test
+    public void list_manyConcurrentClients_allRequestsSucceed() throws Exception {
+        for (int i = 0; i < WARM_UP_REQUESTS; i++) {
+            send("GET", "/list");
+        }
+        ExecutorService clients = Executors.newFixedThreadPool(NO_OF_CLIENTS);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < NO_OF_CLIENTS; i++) {
+            results.add(clients.submit(() -> {
+                int succeeded = 0;
+                for (int j = 0; j < REQUESTS_PER_CLIENT; j++) {
+                    if (send("GET", "/list").statusCode() == 200) {
+                        succeeded++;
+                    }
+                }
+                return succeeded;
+            }));
+        }
+        int succeeded = 0;
+        for (Future<Integer> result : results) {
+            succeeded += result.get();
+        }
+        clients.shutdown();
+
+        assertEquals(NO_OF_CLIENTS * REQUESTS_PER_CLIENT, succeeded);
+    }
+}
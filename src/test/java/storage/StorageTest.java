@@ -1,12 +1,19 @@
 package storage;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import exceptions.DukeException;
+import task.Task;
+import tasklist.TaskList;
+
 
 public class StorageTest {
 
@@ -20,4 +27,29 @@ public class StorageTest {
         assertTrue(Files.exists(p));
     }
 
+    @Test
+    public void loadInBatches_fiveTasks_loadsAllInOrderEndingAtHundredPercent() throws DukeException {
+        Storage s = new Storage("src/test/java/data/testFile.txt");
+        TaskList saved = new TaskList();
+        for (int i = 0; i < 5; i++) {
+            saved.addTask(new Task("t" + i));
+        }
+        assertTrue(s.isTaskListRewritten(saved));
+
+        TaskList loaded = new TaskList();
+        List<Integer> batchSizes = new ArrayList<>();
+        List<Integer> percentages = new ArrayList<>();
+        s.loadInBatches(2, (tasks, percentLoaded) -> {
+            batchSizes.add(tasks.size());
+            percentages.add(percentLoaded);
+            tasks.forEach(loaded::addTask);
+        });
+        assertTrue(s.isTaskListRewritten(new TaskList()));
+
+        assertEquals(List.of(2, 2, 1), batchSizes);
+        assertEquals(List.of(100), percentages.subList(2, 3));
+        assertTrue(percentages.get(0) < 100);
+        assertEquals(saved.getStorageLines(), loaded.getStorageLines());
+    }
+
 }
@@ -42,6 +42,35 @@ public class EventTest {
     @Test
     public void isToday_eventIsNotToday_returnsFalse() {
         Event e = new Event("event", LocalDate.of(1000, 04, 04));
-        Assertions.assertFalse(e.isToday());
+        Assertions.assertFalse(e.isToday(LocalDate.now()));
+    }
+
+    @Test
+    public void isToday_eventDateGiven_returnsTrue() {
+        Event e = new Event("event", LocalDate.of(2022, 10, 10));
+        Assertions.assertTrue(e.isToday(LocalDate.of(2022, 10, 10)));
+        Assertions.assertFalse(e.isToday(LocalDate.of(2022, 10, 11)));
+    }
+
+    @Test
+    public void toString_markedAfterFormatting_showsNewStatus() {
+        Event e = new Event("event", LocalDate.of(2022, 10, 10));
+        Assertions.assertEquals("[E][ ] event (at: 2022-10-10)", e.toString());
+        Assertions.assertEquals("[E][ ] event (at: 2022-10-10)\n", new String(e.toStorageBytes()));
+
+        e.markAsDone(LocalDate.of(2022, 10, 11));
+        Assertions.assertEquals("[E][1] event (at: 2022-10-10) (done: 2022-10-11)", e.toString());
+        Assertions.assertEquals("[E][1] event (at: 2022-10-10) (done: 2022-10-11)\n", new String(e.toStorageBytes()));
+        Assertions.assertEquals("Event event was at MONDAY 10 OCTOBER 2022", e.longDescription());
+    }
+
+    @Test
+    public void isToday_multiDayEvent_trueOnEveryDay() {
+        Event e = new Event("conference", LocalDate.of(2022, 10, 10), LocalDate.of(2022, 10, 12));
+        Assertions.assertEquals("[E][ ] conference (at: 2022-10-10 to: 2022-10-12)", e.toString());
+        Assertions.assertEquals(LocalDate.of(2022, 10, 11), e.getNextDate(LocalDate.of(2022, 10, 11)));
+        Assertions.assertNull(e.getNextDate(LocalDate.of(2022, 10, 13)));
+        Assertions.assertTrue(e.isToday(LocalDate.of(2022, 10, 12)));
+        Assertions.assertFalse(e.isToday(LocalDate.of(2022, 10, 13)));
     }
 }
@@ -0,0 +1,50 @@
+package task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class RecurringTaskTest {
+    private final LocalDate start = LocalDate.of(2022, 1, 31);
+
+    @Test
+    public void occursOn_weeklyRule_onlyMatchingWeekdaysInRange() {
+        RecurringTask weekly = new RecurringTask("gym", RecurringTask.Frequency.WEEKLY, start,
+                LocalDate.of(2022, 3, 1));
+        assertTrue(weekly.occursOn(LocalDate.of(2022, 2, 7)));
+        assertFalse(weekly.occursOn(LocalDate.of(2022, 2, 8)));
+        assertFalse(weekly.occursOn(LocalDate.of(2022, 1, 24)));
+        assertFalse(weekly.occursOn(LocalDate.of(2022, 3, 7)));
+    }
+
+    @Test
+    public void getDatesBetween_monthlyRuleOnLastDay_clampedToEndOfMonth() {
+        RecurringTask monthly = new RecurringTask("rent", RecurringTask.Frequency.MONTHLY, start, null);
+        List<LocalDate> dates = monthly.getDatesBetween(LocalDate.of(2022, 2, 1), LocalDate.of(2022, 4, 30));
+        assertEquals(List.of(LocalDate.of(2022, 2, 28), LocalDate.of(2022, 3, 31), LocalDate.of(2022, 4, 30)),
+                dates);
+    }
+
+    @Test
+    public void getNextDate_afterUntil_returnsNull() {
+        RecurringTask daily = new RecurringTask("feed", RecurringTask.Frequency.DAILY, start, start.plusDays(2));
+        assertEquals(start, daily.getNextDate(LocalDate.of(2000, 1, 1)));
+        assertEquals(start.plusDays(2), daily.getNextDate(start.plusDays(2)));
+        assertNull(daily.getNextDate(start.plusDays(3)));
+    }
+
+    @Test
+    public void toString_withAndWithoutUntil_correctFormat() {
+        assertEquals("[R][ ] feed (every: daily from: 2022-01-31)",
+                new RecurringTask("feed", RecurringTask.Frequency.DAILY, start, null).toString());
+        assertEquals("[R][ ] feed (every: weekly from: 2022-01-31 until: 2022-02-28)",
+                new RecurringTask("feed", RecurringTask.Frequency.WEEKLY, start, LocalDate.of(2022, 2, 28))
+                        .toString());
+    }
+}
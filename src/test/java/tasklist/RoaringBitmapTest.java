@@ -0,0 +1,81 @@
+package tasklist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class RoaringBitmapTest {
+
+    private static List<Integer> toList(RoaringBitmap bitmap) {
+        List<Integer> values = new ArrayList<>();
+        bitmap.forEach(values::add);
+        return values;
+    }
+
+    private static List<Integer> toList(BitSet bitSet) {
+        List<Integer> values = new ArrayList<>();
+        bitSet.stream().forEach(values::add);
+        return values;
+    }
+
+    private static void fill(RoaringBitmap bitmap, BitSet bitSet, Random random, int count, int bound) {
+        for (int i = 0; i < count; i++) {
+            int value = random.nextInt(bound);
+            bitmap.add(value);
+            bitSet.set(value);
+        }
+    }
+
+    @Test
+    public void addAndRemove_acrossContainerKinds_matchesBitSet() {
+        Random random = new Random(42);
+        RoaringBitmap bitmap = new RoaringBitmap();
+        BitSet bitSet = new BitSet();
+        fill(bitmap, bitSet, random, 20000, 1 << 17);
+        assertEquals(bitSet.cardinality(), bitmap.getCardinality());
+        assertEquals(toList(bitSet), toList(bitmap));
+
+        for (int i = 0; i < 150000; i++) {
+            int value = random.nextInt(1 << 17);
+            bitmap.remove(value);
+            bitSet.clear(value);
+        }
+        assertEquals(bitSet.cardinality(), bitmap.getCardinality());
+        assertEquals(toList(bitSet), toList(bitmap));
+    }
+
+    @Test
+    public void andOrAndNot_sparseAndDenseOperands_matchBitSet() {
+        Random random = new Random(7);
+        RoaringBitmap dense = new RoaringBitmap();
+        BitSet denseSet = new BitSet();
+        fill(dense, denseSet, random, 30000, 1 << 17);
+        RoaringBitmap sparse = new RoaringBitmap();
+        BitSet sparseSet = new BitSet();
+        fill(sparse, sparseSet, random, 3000, 3 << 16);
+
+        BitSet expected = (BitSet) denseSet.clone();
+        expected.and(sparseSet);
+        assertEquals(toList(expected), toList(dense.and(sparse)));
+        assertEquals(toList(expected), toList(sparse.and(dense)));
+
+        expected = (BitSet) denseSet.clone();
+        expected.or(sparseSet);
+        assertEquals(toList(expected), toList(sparse.or(dense)));
+
+        expected = (BitSet) denseSet.clone();
+        expected.andNot(sparseSet);
+        assertEquals(toList(expected), toList(dense.andNot(sparse)));
+        expected = (BitSet) sparseSet.clone();
+        expected.andNot(denseSet);
+        assertEquals(toList(expected), toList(sparse.andNot(dense)));
+
+        assertEquals(toList(denseSet), toList(dense));
+        assertEquals(0, dense.andNot(dense).getCardinality());
+    }
+}
@@ -5,14 +5,21 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.time.Clock;
 import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import exceptions.DukeException;
+import task.Deadline;
 import task.Event;
+import task.RecurringTask;
 import task.Task;
+import utility.TodayClock;
 
 public class TaskListTest {
 
@@ -83,6 +90,21 @@ public class TaskListTest {
         assertTrue(actualString.equals("1. [T][ ] todo\n"));
     }
 
+    @Test
+    public void writeContents_rangeGiven_onlyTasksInRangeWritten() {
+        TaskList tl = new TaskList();
+        for (int i = 1; i <= 200; i++) {
+            tl.addTask(new Task("t" + i));
+        }
+        StringBuilder written = new StringBuilder();
+        tl.writeContents(150, 152, written::append);
+        assertEquals("150. [T][ ] t150\n151. [T][ ] t151\n152. [T][ ] t152\n", written.toString());
+
+        int[] noOfChunks = {0};
+        tl.writeContents(1, 1000, chunk -> noOfChunks[0]++);
+        assertTrue(noOfChunks[0] > 1);
+    }
+
     @Test
     public void markTask_singleTaskInList_correctlyMarked() {
         TaskList tl = new TaskList();
@@ -100,6 +122,342 @@ public class TaskListTest {
         assertThrows(DukeException.class, () -> tl.getTask(10000));
     }
 
+    @Test
+    public void stageChanges_stagedListIsMarked_originalUnchangedUntilApplied() {
+        TaskList tl = new TaskList();
+        tl.addTask(new Task("todo"));
+        TaskList staged = tl.stageChanges();
+        staged.markTask(1);
+        staged.addTask(new Task("other"));
+        try {
+            assertEquals("Task todo is not completed yet", tl.getLongDescription(1));
+            assertEquals(1, tl.getSize());
+
+            tl.applyStagedChanges(staged);
+            assertEquals("Task todo is completed", tl.getLongDescription(1));
+            assertEquals(2, tl.getSize());
+        } catch (DukeException de) {
+            fail();
+        }
+    }
+
+    @Test
+    public void applyStagedChanges_fewChanges_listenersToldOnlyOfThose() throws DukeException {
+        TaskList tl = new TaskList();
+        for (int i = 0; i < 5; i++) {
+            tl.addTask(new Task("t" + i));
+        }
+        Task kept = tl.getTask(4);
+        List<String> events = new ArrayList<>();
+        tl.addListener(new TaskListListener() {
+            @Override
+            public void taskAdded(Task task) {
+                events.add("added " + task.getDescription());
+            }
+
+            @Override
+            public void taskRemoved(Task task) {
+                events.add("removed " + task.getDescription());
+            }
+
+            @Override
+            public void taskChanged(Task task) {
+                events.add("changed " + task.getDescription());
+            }
+        });
+        events.clear();
+
+        TaskList staged = tl.stageChanges();
+        staged.getStatistics();
+        staged.markTask(4);
+        assertEquals(1, staged.getStatistics().getNoOfDoneTasks());
+        staged.deleteTask(1);
+        staged.addTask(new Task("t5"));
+        assertTrue(events.isEmpty());
+        assertTrue(!kept.isDone());
+
+        tl.applyStagedChanges(staged);
+        assertEquals(List.of("changed t3", "removed t0", "added t5"), events);
+        assertTrue(kept == tl.getTask(3) && kept.isDone());
+        assertEquals(staged.getStorageLines(), tl.getStorageLines());
+    }
+
+    @Test
+    public void findEventsBetween_overlappingEvents_returnsOnlyThoseInRange() {
+        TaskList tl = new TaskList();
+        Event conference = new Event("conference", LocalDate.of(2022, 10, 10), LocalDate.of(2022, 10, 12));
+        Event dinner = new Event("dinner", LocalDate.of(2022, 10, 14));
+        RecurringTask gym = new RecurringTask("gym", RecurringTask.Frequency.WEEKLY,
+                LocalDate.of(2022, 10, 3), null);
+        tl.addTask(conference);
+        tl.addTask(new Task("todo"));
+        assertEquals(List.of(conference), tl.findEventsBetween(LocalDate.of(2022, 10, 12), LocalDate.of(2022, 10, 13)));
+
+        tl.addTask(dinner);
+        tl.addTask(gym);
+        assertEquals(List.of(conference), tl.findEventsBetween(LocalDate.of(2022, 10, 11), LocalDate.of(2022, 10, 13)));
+        assertEquals(List.of(gym, conference),
+                tl.findEventsBetween(LocalDate.of(2022, 10, 9), LocalDate.of(2022, 10, 13)));
+        assertEquals(List.of(dinner), tl.findEventsBetween(LocalDate.of(2022, 10, 13), LocalDate.of(2022, 10, 16)));
+
+        try {
+            tl.deleteTask(1);
+        } catch (DukeException de) {
+            fail();
+        }
+        assertEquals(List.of(gym), tl.findEventsBetween(LocalDate.of(2022, 10, 10), LocalDate.of(2022, 10, 12)));
+    }
+
+    @Test
+    public void filterTasks_tagsAndDoneStatus_returnsMatchingTasksInOrder() {
+        TaskList tl = new TaskList();
+        Task report = new Task("report");
+        report.setTags(List.of("#work", "#Urgent"));
+        Task laundry = new Task("laundry");
+        laundry.setTags(List.of("#home"));
+        Task meeting = new Task("meeting");
+        meeting.setTags(List.of("#work"));
+        tl.addTask(report);
+        tl.addTask(laundry);
+        tl.addTask(meeting);
+
+        assertEquals(List.of(report.toString(), meeting.toString()),
+                tl.filterTasks(List.of(List.of("#work"))).getStorageLines());
+        assertEquals(List.of(meeting.toString()),
+                tl.filterTasks(List.of(List.of("#work"), List.of("!#urgent"))).getStorageLines());
+        assertEquals(3, tl.filterTasks(List.of(List.of("#work", "#home"))).getSize());
+
+        tl.markTask(1);
+        assertEquals(List.of(laundry.toString(), meeting.toString()),
+                tl.filterTasks(List.of(List.of("done:no"))).getStorageLines());
+        try {
+            tl.deleteTask(1);
+        } catch (DukeException de) {
+            fail();
+        }
+        assertEquals(0, tl.filterTasks(List.of(List.of("#urgent"))).getSize());
+        assertEquals(0, tl.filterTasks(List.of(List.of("#missing"))).getSize());
+    }
+
+    @Test
+    public void plan_queryWithIndexedConditions_scansOnlyMostSelectiveCandidates() {
+        TaskList tl = new TaskList();
+        for (int i = 0; i < 100; i++) {
+            tl.addTask(new Task("chore" + i));
+        }
+        Deadline report = new Deadline("quarterly report", LocalDate.of(2022, 11, 20));
+        Deadline taxes = new Deadline("taxes", LocalDate.of(2022, 12, 5));
+        Event conference = new Event("report review", LocalDate.of(2022, 11, 1), LocalDate.of(2022, 11, 3));
+        tl.addTask(report);
+        tl.addTask(taxes);
+        tl.addTask(conference);
+
+        QueryPlan plan = tl.plan(Query.and(List.of(Query.type(Deadline.class, "deadline"),
+                Query.on(LocalDate.of(2022, 11, 20)), Query.text("REPORT"))));
+        assertEquals(List.of(report.toString()), plan.execute().getStorageLines());
+        assertEquals(1, plan.getNoOfTasksScanned());
+        assertTrue(plan.describe().contains("date index for on:2022-11-20 (1 candidates)"));
+
+        plan = tl.plan(Query.or(List.of(Query.on(LocalDate.of(2022, 11, 2)), Query.text("taxes"))));
+        assertEquals(List.of(taxes.toString(), conference.toString()), plan.execute().getStorageLines());
+        assertEquals(2, plan.getNoOfTasksScanned());
+
+        plan = tl.plan(Query.and(List.of(Query.not(Query.done(false)), Query.text("re"))));
+        assertEquals(0, plan.execute().getSize());
+        assertEquals(103, plan.getNoOfTasksScanned());
+    }
+
+    @Test
+    public void plan_selectiveTagAndBroadDate_dateCandidatesNotFound() {
+        TaskList tl = new TaskList();
+        for (int i = 0; i < 100; i++) {
+            tl.addTask(new Deadline("chore" + i, LocalDate.of(2022, 1, 1).plusDays(i)));
+        }
+        Task vet = new Task("vet");
+        vet.setTags(List.of("aviary"));
+        tl.addTask(vet);
+
+        QueryPlan plan = tl.plan(Query.and(List.of(Query.before(LocalDate.of(2023, 1, 1)), Query.tag("aviary"))));
+        assertEquals(0, plan.execute().getSize());
+        assertEquals(1, plan.getNoOfTasksScanned());
+        assertTrue(plan.describe().contains("tag index for tag:aviary (1 candidates), chosen over "
+                + "date index for before:2023-01-01 (more than 1 candidates)"), plan.describe());
+    }
+
+    @Test
+    public void getStatistics_afterChangesAndReplace_countsMatchList() {
+        LocalDate day = LocalDate.of(2022, 10, 10);
+        ZoneId zone = ZoneId.systemDefault();
+        try {
+            TaskList tl = new TaskList(new TodayClock(Clock.fixed(day.atStartOfDay(zone).toInstant(), zone)));
+            tl.addTask(new Task("todo"));
+            tl.addTask(new Deadline("report", day));
+            tl.addTask(new Event("party", day.plusDays(1)));
+            TaskStatistics statistics = tl.getStatistics();
+            assertEquals(3, statistics.getNoOfTasks());
+            assertEquals(2, statistics.getNoOfTasksDueBetween(day, day.plusDays(6)));
+
+            tl.markTask(2);
+            tl.markTask(2);
+            tl.markTask(1);
+            assertEquals(2, statistics.getNoOfDoneTasks());
+            assertEquals(1, statistics.getNoOfDoneTasks(Deadline.class));
+            assertEquals(1, statistics.getNoOfOpenTasksDueBetween(day, day.plusDays(6)));
+            assertEquals(2, statistics.getNoOfTasksCompletedBetween(day, day));
+
+            tl.applyStagedChanges(tl.stageChanges());
+            assertEquals(2, statistics.getNoOfTasksCompletedBetween(day.minusDays(6), day));
+            tl.unmarkTask(1);
+            tl.deleteTask(2);
+            assertEquals(2, statistics.getNoOfTasks());
+            assertEquals(0, statistics.getNoOfDoneTasks());
+            assertEquals(0, statistics.getNoOfTasksCompletedBetween(day, day));
+            assertEquals(1, statistics.getNoOfTasks(Event.class));
+            assertEquals(0, statistics.getNoOfTasks(RecurringTask.class));
+        } catch (DukeException de) {
+            fail();
+        }
+    }
+
+    @Test
+    public void getNextTasks_manyDatedTasks_returnsSoonestOpenInOrder() {
+        LocalDate day = LocalDate.of(2022, 10, 10);
+        TaskList tl = new TaskList();
+        for (int i = 20; i > 0; i--) {
+            tl.addTask(new Deadline("deadline" + i, day.plusDays(i)));
+        }
+        Deadline dueToday = new Deadline("today", day);
+        tl.addTask(dueToday);
+        tl.addTask(new Deadline("yesterday", day.minusDays(1)));
+        tl.addTask(new Task("todo"));
+        RecurringTask gym = new RecurringTask("gym", RecurringTask.Frequency.WEEKLY, day.minusDays(5), null);
+        tl.addTask(gym);
+        tl.markTask(20);
+
+        List<Task> nextTasks = tl.getNextTasks(3, day);
+        assertEquals(List.of(dueToday.toString(), "[D][ ] deadline2 (by: 2022-10-12)", gym.toString()),
+                List.of(nextTasks.get(0).toString(), nextTasks.get(1).toString(), nextTasks.get(2).toString()));
+        assertEquals(21, tl.getNextTasks(100, day).size());
+        assertEquals(0, tl.getNextTasks(0, day).size());
+    }
+
+    @Test
+    public void getSortedTasks_afterChanges_staysSorted() {
+        LocalDate day = LocalDate.of(2022, 10, 10);
+        TaskList tl = new TaskList();
+        Task todo = new Task("todo");
+        Deadline late = new Deadline("late", day.plusDays(5));
+        Deadline soon = new Deadline("soon", day);
+        tl.addTask(todo);
+        tl.addTask(late);
+        tl.addTask(soon);
+        assertEquals(List.of(soon, late, todo), tl.getSortedTasks(SortOrder.DATE));
+        assertEquals(List.of(todo, late, soon), tl.getSortedTasks(SortOrder.STATUS));
+
+        tl.markTask(1);
+        Event party = new Event("party", day.plusDays(1));
+        tl.addTask(party);
+        assertEquals(List.of(late, soon, party, todo), tl.getSortedTasks(SortOrder.STATUS));
+        assertEquals(List.of(soon, party, late, todo), tl.getSortedTasks(SortOrder.DATE));
+        assertEquals(List.of(todo, late, soon, party), tl.getSortedTasks(SortOrder.TYPE));
+
+        tl.unmarkTask(1);
+        try {
+            tl.deleteTask(2);
+        } catch (DukeException de) {
+            fail();
+        }
+        assertEquals(List.of(todo, soon, party), tl.getSortedTasks(SortOrder.STATUS));
+        assertEquals(List.of(soon, party, todo), tl.getSortedTasks(SortOrder.DATE));
+    }
+
+    @Test
+    public void getSortedTask_manyTasksChanged_matchesSortedTasks() throws DukeException {
+        LocalDate day = LocalDate.of(2022, 10, 10);
+        TaskList tl = new TaskList();
+        for (int i = 0; i < 3000; i++) {
+            tl.addTask(i % 3 == 0 ? new Task("t" + i) : new Deadline("d" + i, day.plusDays(i * 7 % 100)));
+        }
+        for (SortOrder order : SortOrder.values()) {
+            tl.getSortedTask(order, 0);
+        }
+        for (int n = 1; n <= 3000; n += 4) {
+            tl.markTask(n);
+        }
+        for (int n = 2900; n >= 1; n -= 5) {
+            tl.deleteTask(n);
+        }
+        for (SortOrder order : SortOrder.values()) {
+            List<Task> sortedTasks = tl.getSortedTasks(order);
+            assertEquals(tl.getSize(), sortedTasks.size());
+            for (int i = 0; i < sortedTasks.size(); i++) {
+                assertEquals(sortedTasks.get(i), tl.getSortedTask(order, i));
+            }
+            assertEquals(null, tl.getSortedTask(order, sortedTasks.size()));
+        }
+        List<Task> byDate = tl.getSortedTasks(SortOrder.DATE);
+        for (int i = 1; i < byDate.size(); i++) {
+            assertTrue(SortOrder.DATE.getComparator().compare(byDate.get(i - 1), byDate.get(i)) <= 0);
+        }
+
+        StringBuilder page = new StringBuilder();
+        tl.writeSortedContents(SortOrder.DATE, 490, 530, page::append);
+        StringBuilder expectedPage = new StringBuilder();
+        for (int n = 490; n <= 530; n++) {
+            expectedPage.append(n).append(". ").append(byDate.get(n - 1)).append('\n');
+        }
+        assertEquals(expectedPage.toString(), page.toString());
+        StringBuilder pastEnd = new StringBuilder();
+        tl.writeSortedContents(SortOrder.DATE, tl.getSize() + 1, tl.getSize() + 100, pastEnd::append);
+        assertEquals("", pastEnd.toString());
+    }
+
+    @Test
+    public void getIndexOf_equalDescriptions_findsTaskItself() {
+        Task first = new Task("feed");
+        Task second = new Task("feed");
+        tl.addTask(first);
+        tl.addTask(second);
+        assertEquals(2, tl.getIndexOf(second));
+        assertEquals(-1, tl.getIndexOf(new Task("feed")));
+        assertEquals(List.of(first, second), tl.getTasks());
+    }
+
+    @Test
+    public void getModCount_readsAndMarks_changesOnlyWhenListChanges() {
+        tl.addTask(new Task("feed"));
+        long modCount = tl.getModCount();
+        tl.getSortedTasks(SortOrder.STATUS);
+        tl.unmarkTask(1);
+        assertEquals(modCount, tl.getModCount());
+        tl.markTask(1);
+        assertTrue(tl.getModCount() > modCount);
+    }
+
+    @Test
+    public void searchTasks_longerText_narrowsPreviousResultUntilListChanges() {
+        Task feed = new Task("feed parrots");
+        Task clean = new Task("clean cage");
+        Task buy = new Task("buy parrot food");
+        tl.addTask(feed);
+        tl.addTask(clean);
+        tl.addTask(buy);
+
+        SearchResult first = tl.searchTasks("Pa", null);
+        assertEquals(List.of(feed, buy), first.getTasks());
+        assertEquals(3, first.getNoOfTasksScanned());
+
+        SearchResult narrowed = tl.searchTasks("parrots", first);
+        assertEquals(List.of(feed), narrowed.getTasks());
+        assertEquals(2, narrowed.getNoOfTasksScanned());
+
+        Task paint = new Task("paint parrots perch");
+        tl.addTask(paint);
+        SearchResult rescanned = tl.searchTasks("parrots p", narrowed);
+        assertEquals(List.of(paint), rescanned.getTasks());
+        assertEquals(List.of(feed, paint), tl.searchTasks("parrots", first).getTasks());
+    }
+
     @Test
     public void findTasks_noMatchingKeyword_returnsEmptyTaskList() {
         assertEquals(0, tl.findTasks("keyword").getSize());
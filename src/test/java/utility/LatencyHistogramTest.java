@@ -0,0 +1,39 @@
+package utility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void getPercentile_noLatencies_returnsZero() {
+        assertEquals(0, new LatencyHistogram().getPercentile(99));
+    }
+
+    @Test
+    public void getPercentile_uniformLatencies_withinThreePercent() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 100_000; nanos++) {
+            histogram.record(nanos * 1000);
+        }
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(100_000_000, histogram.getMax());
+        long median = histogram.getPercentile(50);
+        long p99 = histogram.getPercentile(99);
+        assertTrue(median >= 50_000_000 && median <= 51_500_000, "p50 was " + median);
+        assertTrue(p99 >= 99_000_000 && p99 <= 100_000_000, "p99 was " + p99);
+        assertEquals(100_000_000, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void bucketOf_everyBucket_holdsItsHighestValue() {
+        for (int bucket = 0; bucket < 1887; bucket++) {
+            long highestValue = LatencyHistogram.highestValueOf(bucket);
+            assertEquals(bucket, LatencyHistogram.bucketOf(highestValue));
+            assertEquals(bucket + 1, LatencyHistogram.bucketOf(highestValue + 1));
+        }
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.highestValueOf(1887));
+    }
+}
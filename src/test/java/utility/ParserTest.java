@@ -2,12 +2,22 @@ package utility;
 
 import static utility.Parser.parse;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import command.AddTaskCommand;
 import command.Command;
+import command.FilterCommand;
+import command.FindCommand;
+import command.ListCommand;
+import command.NextCommand;
+import command.SortCommand;
 import exceptions.DukeException;
+import task.Task;
+import tasklist.TaskList;
+import ui.UI;
 
 public class ParserTest {
     @Test
@@ -36,6 +46,79 @@ public class ParserTest {
         Assertions.assertThrows(DukeException.class, () -> parse("event description 2022-31-31"));
     }
 
+    @Test
+    public void parse_listWithRangeOrPage_createsListCommand() throws DukeException {
+        Assertions.assertTrue(parse("list 200-300") instanceof ListCommand);
+        Assertions.assertTrue(parse("list page 5") instanceof ListCommand);
+        Assertions.assertThrows(DukeException.class, () -> parse("list 300-200"));
+        Assertions.assertThrows(DukeException.class, () -> parse("list page"));
+    }
+
+    @Test
+    public void parse_filterClauses_createsFilterCommand() throws DukeException {
+        Assertions.assertTrue(parse("filter #work|#home !#urgent done:no") instanceof FilterCommand);
+        Assertions.assertThrows(DukeException.class, () -> parse("filter"));
+        Assertions.assertThrows(DukeException.class, () -> parse("filter work"));
+        Assertions.assertThrows(DukeException.class, () -> parse("filter #work|"));
+    }
+
+    @Test
+    public void parse_findQuery_createsFindCommand() throws DukeException {
+        Assertions.assertTrue(parse("find explain type:deadline|event done:no before:2022-12-01 text:report")
+                instanceof FindCommand);
+        Assertions.assertTrue(parse("find !tag:work on:2022-10-10 after:2022-01-01") instanceof FindCommand);
+        Assertions.assertThrows(DukeException.class, () -> parse("find type:chore"));
+        Assertions.assertThrows(DukeException.class, () -> parse("find done:maybe"));
+        Assertions.assertThrows(DukeException.class, () -> parse("find before:tomorrow"));
+        Assertions.assertThrows(DukeException.class, () -> parse("find explain"));
+    }
+
+    @Test
+    public void parse_findWordsWithColonButNoKnownField_findsKeyword() throws DukeException {
+        TaskList taskList = new TaskList();
+        taskList.addTask(new Task("meet at 10:30"));
+        taskList.addTask(new Task("re: report"));
+        UI ui = new UI();
+        parse("find 10:30").execute(taskList, ui, null);
+        Assertions.assertTrue(ui.getResponse().contains("1. [T][ ] meet at 10:30\n"));
+        parse("find re:").execute(taskList, ui, null);
+        Assertions.assertTrue(ui.getResponse().contains("1. [T][ ] re: report\n"));
+        parse("find done:no 10:30").execute(taskList, ui, null);
+        Assertions.assertTrue(ui.getResponse().contains("Total: 1"));
+        parse("find explain tag:work").execute(taskList, ui, null);
+        Assertions.assertTrue(ui.getResponse().contains("tag:work"), ui.getResponse());
+    }
+
+    @Test
+    public void parse_nextAndSort_createsCommands() throws DukeException {
+        Assertions.assertTrue(parse("next") instanceof NextCommand);
+        Assertions.assertTrue(parse("next 20") instanceof NextCommand);
+        Assertions.assertTrue(parse("sort by date") instanceof SortCommand);
+        Assertions.assertTrue(parse("sort type") instanceof SortCommand);
+        Assertions.assertThrows(DukeException.class, () -> parse("next few"));
+        Assertions.assertThrows(DukeException.class, () -> parse("sort by size"));
+    }
+
+    @Test
+    public void parse_findSortAndFilterWithPage_listsOnlyThatPage() throws DukeException {
+        TaskList taskList = new TaskList();
+        for (int i = 1; i <= 250; i++) {
+            Task task = new Task("t" + i);
+            task.setTags(List.of("#work"));
+            taskList.addTask(task);
+        }
+        UI ui = new UI();
+        parse("find t page 2").execute(taskList, ui, null);
+        Assertions.assertTrue(ui.getResponse().startsWith("Tasks in your list are:\n________\n101. "));
+        Assertions.assertTrue(ui.getResponse().contains("Showing 101-200. Type find t page 3 for more."));
+
+        parse("sort by date").execute(taskList, ui, null);
+        Assertions.assertTrue(ui.getResponse().contains("Showing 1-100. Type sort by date page 2 for more."));
+        parse("filter #work page 3").execute(taskList, ui, null);
+        Assertions.assertTrue(ui.getResponse().contains("Showing 201-250.\nTotal: 250"));
+        Assertions.assertThrows(DukeException.class, () -> parse("find t page 0"));
+    }
+
     @Test
     public void parse_emptyStringForEvent_throwsDukeException() {
         Assertions.assertThrows(DukeException.class, () -> parse("e 2022-04-04"));
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Paths;
+import java.time.LocalDate;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import stubs.StorageStub;
 import task.Deadline;
 import task.Event;
+import task.RecurringTask;
 import task.Task;
 
 
@@ -38,6 +40,12 @@ public class StorageParserTest {
         assertTrue(StorageParser.fileLineToTask("T[") == null);
     }
 
+    @Test
+    public void fileLineToTask_datedLineWithoutDate_returnsNull() {
+        assertTrue(StorageParser.fileLineToTask("[D][ ] no date") == null);
+        assertTrue(StorageParser.fileLineToTask("[E][1] cut off (at: 2022") == null);
+    }
+
     @Test
     public void fileLineToTask_invalidMarkSymbol_returnsUnmarkedTask() {
         Task t = StorageParser.fileLineToTask("[T][9] aviaryOpening");
@@ -72,6 +80,55 @@ public class StorageParserTest {
         assertTrue(StorageParser.fileLineToTask("[d][ ] aviaryOpening (by: 2022-10-10)") instanceof Deadline);
     }
 
+    @Test
+    public void fileLineToTask_recurringTaskLine_sameLineStoredBack() {
+        String line = "[R][1] gym (every: weekly from: 2022-10-10 until: 2022-12-31)";
+        Task t = StorageParser.fileLineToTask(line);
+        assertTrue(t instanceof RecurringTask);
+        assertEquals(line, t.toString());
+
+        assertTrue(StorageParser.fileLineToTask("[R][ ] gym (every: yearly from: 2022-10-10)") == null);
+        assertTrue(StorageParser.fileLineToTask("[R][ ] gym (every: daily from: 2022-10-10 until: 2022-01-01)")
+                == null);
+    }
+
+    @Test
+    public void fileLineToTask_multiDayEventLine_sameLineStoredBack() {
+        String line = "[E][ ] conference (at: 2022-10-10 to: 2022-10-12)";
+        Task t = StorageParser.fileLineToTask(line);
+        assertTrue(t instanceof Event);
+        assertEquals(line, t.toString());
+
+        assertTrue(StorageParser.fileLineToTask("[E][ ] conference (at: 2022-10-10 to: 2022-10-09)") == null);
+    }
+
+    @Test
+    public void fileLineToTask_completionDateStored_completionDateRestored() {
+        String line = "[D][1] report (by: 2022-10-10) (done: 2022-10-09) #work";
+        Task t = StorageParser.fileLineToTask(line);
+        assertTrue(t instanceof Deadline && t.isDone());
+        assertEquals(LocalDate.of(2022, 10, 9), t.getCompletionDate());
+        assertEquals("report", t.getDescription());
+        assertEquals(line, t.toString());
+
+        Task withoutDate = StorageParser.fileLineToTask("[T][1] laundry");
+        assertTrue(withoutDate.isDone() && withoutDate.getCompletionDate() == null);
+        assertEquals("[T][1] laundry", withoutDate.toString());
+        assertTrue(StorageParser.fileLineToTask("[T][1] laundry (done: someday)") == null);
+    }
+
+    @Test
+    public void fileLineToTask_taggedLines_tagsRestored() {
+        String line = "[D][ ] report (by: 2022-10-10) #urgent #work";
+        Task t = StorageParser.fileLineToTask(line);
+        assertTrue(t instanceof Deadline);
+        assertEquals(List.of("urgent", "work"), t.getTags());
+        assertEquals(line, t.toString());
+
+        assertEquals(List.of("home"), StorageParser.fileLineToTask("[T][ ] laundry #home").getTags());
+        assertTrue(StorageParser.fileLineToTask("[T][ ] #home") == null);
+    }
+
     @Test
     public void fileLinetoTask_invalidMarkIndicators_returnsNull() {
         //No marking indication given
@@ -0,0 +1,69 @@
+package utility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class TodayClockTest {
+    private static final ZoneId ZONE = ZoneId.of("UTC");
+
+    /**
+     * Clock whose time is set by the test.
+     */
+    private static class SettableClock extends Clock {
+        private volatile Instant instant;
+
+        private SettableClock(LocalDate date) {
+            setDate(date);
+        }
+
+        private void setDate(LocalDate date) {
+            instant = date.atStartOfDay(ZONE).toInstant();
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    @Test
+    public void getDate_dateChangedWithoutMidnightTimer_listenersRunOnClockThread() throws Exception {
+        LocalDate day = LocalDate.of(2022, 10, 10);
+        SettableClock clock = new SettableClock(day);
+        TodayClock today = new TodayClock(clock);
+        BlockingQueue<String> rolloverThreads = new LinkedBlockingQueue<>();
+        today.addRolloverListener(() -> rolloverThreads.add(Thread.currentThread().getName()));
+        assertEquals(day, today.getDate());
+
+        clock.setDate(day.plusDays(3));
+        Thread.sleep(1100);
+        assertEquals(day.plusDays(3), today.getDate());
+        String rolloverThread = rolloverThreads.poll(5, TimeUnit.SECONDS);
+        assertEquals("duke-today-clock", rolloverThread);
+        assertNotEquals(Thread.currentThread().getName(), rolloverThread);
+
+        assertEquals(day.plusDays(3), today.getDate());
+        assertTrue(rolloverThreads.poll(200, TimeUnit.MILLISECONDS) == null);
+    }
+}